@@ -0,0 +1,86 @@
+package com.github.maximtereshchenko.conveyor.plugin.compile;
+
+import com.github.maximtereshchenko.conveyor.files.FileTree;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+record ClassFile(String name, Set<String> references, boolean hasConstants) {
+
+    private static final Pattern DESCRIPTOR_PATTERN = Pattern.compile(
+        "L([\\p{javaJavaIdentifierPart}/]+)[;<]"
+    );
+
+    static ClassFile from(Path path) {
+        return new FileTree(path).read(inputStream -> read(new DataInputStream(inputStream)));
+    }
+
+    private static ClassFile read(DataInputStream dataInputStream) throws IOException {
+        dataInputStream.skipNBytes(8);
+        var constantPoolCount = dataInputStream.readUnsignedShort();
+        var strings = new String[constantPoolCount];
+        var classIndexes = new int[constantPoolCount];
+        for (var index = 1; index < constantPoolCount; index++) {
+            switch (dataInputStream.readUnsignedByte()) {
+                case 1 -> strings[index] = dataInputStream.readUTF();
+                case 7 -> classIndexes[index] = dataInputStream.readUnsignedShort();
+                case 8, 16, 19, 20 -> dataInputStream.skipNBytes(2);
+                case 15 -> dataInputStream.skipNBytes(3);
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> dataInputStream.skipNBytes(4);
+                case 5, 6 -> {
+                    dataInputStream.skipNBytes(8);
+                    index++;
+                }
+                default -> throw new IOException("Unknown constant pool tag");
+            }
+        }
+        dataInputStream.skipNBytes(2);
+        var name = strings[classIndexes[dataInputStream.readUnsignedShort()]];
+        dataInputStream.skipNBytes(2);
+        dataInputStream.skipNBytes(2L * dataInputStream.readUnsignedShort());
+        return new ClassFile(
+            name,
+            references(name, strings, classIndexes),
+            hasConstants(dataInputStream, strings)
+        );
+    }
+
+    private static Set<String> references(String name, String[] strings, int[] classIndexes) {
+        var references = new HashSet<String>();
+        for (var index : classIndexes) {
+            if (index != 0 && !strings[index].startsWith("[")) {
+                references.add(strings[index]);
+            }
+        }
+        for (var string : strings) {
+            if (string != null) {
+                DESCRIPTOR_PATTERN.matcher(string)
+                    .results()
+                    .map(matchResult -> matchResult.group(1))
+                    .forEach(references::add);
+            }
+        }
+        references.remove(name);
+        return references;
+    }
+
+    private static boolean hasConstants(DataInputStream dataInputStream, String[] strings)
+        throws IOException {
+        var fieldsCount = dataInputStream.readUnsignedShort();
+        var hasConstants = false;
+        for (var field = 0; field < fieldsCount; field++) {
+            dataInputStream.skipNBytes(6);
+            var attributesCount = dataInputStream.readUnsignedShort();
+            for (var attribute = 0; attribute < attributesCount; attribute++) {
+                var attributeName = strings[dataInputStream.readUnsignedShort()];
+                dataInputStream.skipNBytes(Integer.toUnsignedLong(dataInputStream.readInt()));
+                hasConstants |= "ConstantValue".equals(attributeName);
+            }
+        }
+        return hasConstants;
+    }
+}
@@ -0,0 +1,178 @@
+package com.github.maximtereshchenko.conveyor.plugin.compile;
+
+import com.github.maximtereshchenko.conveyor.files.FileTree;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Collectors;
+
+record CompilationState(String classpath, Map<Path, CompiledSource> sources) {
+
+    private static final int FORMAT_VERSION = 1;
+
+    static Optional<CompilationState> from(Path path) {
+        var fileTree = new FileTree(path);
+        if (!fileTree.exists()) {
+            return Optional.empty();
+        }
+        return fileTree.read(inputStream -> read(new DataInputStream(inputStream)));
+    }
+
+    private static Optional<CompilationState> read(DataInputStream dataInputStream)
+        throws IOException {
+        if (dataInputStream.readInt() != FORMAT_VERSION) {
+            return Optional.empty();
+        }
+        var classpath = dataInputStream.readUTF();
+        var sources = new HashMap<Path, CompiledSource>();
+        var sourcesCount = dataInputStream.readInt();
+        for (var source = 0; source < sourcesCount; source++) {
+            var path = Paths.get(dataInputStream.readUTF());
+            var hash = dataInputStream.readUTF();
+            var classes = new HashSet<CompiledClass>();
+            var classesCount = dataInputStream.readInt();
+            for (var compiledClass = 0; compiledClass < classesCount; compiledClass++) {
+                classes.add(compiledClass(dataInputStream));
+            }
+            sources.put(path, new CompiledSource(hash, classes));
+        }
+        return Optional.of(new CompilationState(classpath, sources));
+    }
+
+    private static CompiledClass compiledClass(DataInputStream dataInputStream)
+        throws IOException {
+        var path = Paths.get(dataInputStream.readUTF());
+        var name = dataInputStream.readUTF();
+        var hasConstants = dataInputStream.readBoolean();
+        var references = new HashSet<String>();
+        var referencesCount = dataInputStream.readInt();
+        for (var reference = 0; reference < referencesCount; reference++) {
+            references.add(dataInputStream.readUTF());
+        }
+        return new CompiledClass(path, new ClassFile(name, references, hasConstants));
+    }
+
+    boolean isIntact(Path classesDirectory) {
+        return sources.values()
+            .stream()
+            .map(CompiledSource::classes)
+            .flatMap(Collection::stream)
+            .map(CompiledClass::path)
+            .map(classesDirectory::resolve)
+            .allMatch(Files::isRegularFile);
+    }
+
+    Set<Path> affected(Map<Path, String> hashes) {
+        var modified = new HashSet<>(sources.keySet());
+        modified.removeAll(hashes.keySet());
+        hashes.forEach((path, hash) -> {
+            var compiledSource = sources.get(path);
+            if (compiledSource == null || !compiledSource.hash().equals(hash)) {
+                modified.add(path);
+            }
+        });
+        var modifiedClasses = modified.stream()
+            .map(sources::get)
+            .filter(Objects::nonNull)
+            .map(CompiledSource::classes)
+            .flatMap(Collection::stream)
+            .map(CompiledClass::classFile)
+            .toList();
+        if (modifiedClasses.stream().anyMatch(ClassFile::hasConstants)) {
+            return hashes.keySet();
+        }
+        var affectedNames = modifiedClasses.stream()
+            .map(ClassFile::name)
+            .collect(Collectors.toSet());
+        var affected = new HashSet<>(modified);
+        var isExtended = true;
+        while (isExtended) {
+            isExtended = false;
+            for (var entry : sources.entrySet()) {
+                if (!affected.contains(entry.getKey()) &&
+                    entry.getValue().references(affectedNames)) {
+                    affected.add(entry.getKey());
+                    affectedNames.addAll(entry.getValue().names());
+                    isExtended = true;
+                }
+            }
+        }
+        affected.retainAll(hashes.keySet());
+        return affected;
+    }
+
+    Set<Path> classes(Set<Path> sources) {
+        return sources.stream()
+            .map(this.sources::get)
+            .filter(Objects::nonNull)
+            .map(CompiledSource::classes)
+            .flatMap(Collection::stream)
+            .map(CompiledClass::path)
+            .collect(Collectors.toSet());
+    }
+
+    CompilationState with(
+        String classpath,
+        Set<Path> existing,
+        Map<Path, CompiledSource> compiled
+    ) {
+        var next = new HashMap<>(sources);
+        next.keySet().retainAll(existing);
+        next.putAll(compiled);
+        return new CompilationState(classpath, next);
+    }
+
+    void write(Path path) {
+        new FileTree(path).write(outputStream -> {
+            var dataOutputStream = new DataOutputStream(outputStream);
+            dataOutputStream.writeInt(FORMAT_VERSION);
+            dataOutputStream.writeUTF(classpath);
+            dataOutputStream.writeInt(sources.size());
+            for (var entry : sources.entrySet()) {
+                dataOutputStream.writeUTF(entry.getKey().toString());
+                dataOutputStream.writeUTF(entry.getValue().hash());
+                dataOutputStream.writeInt(entry.getValue().classes().size());
+                for (var compiledClass : entry.getValue().classes()) {
+                    write(dataOutputStream, compiledClass);
+                }
+            }
+            dataOutputStream.flush();
+        });
+    }
+
+    private void write(DataOutputStream dataOutputStream, CompiledClass compiledClass)
+        throws IOException {
+        dataOutputStream.writeUTF(compiledClass.path().toString());
+        dataOutputStream.writeUTF(compiledClass.classFile().name());
+        dataOutputStream.writeBoolean(compiledClass.classFile().hasConstants());
+        dataOutputStream.writeInt(compiledClass.classFile().references().size());
+        for (var reference : compiledClass.classFile().references()) {
+            dataOutputStream.writeUTF(reference);
+        }
+    }
+
+    record CompiledSource(String hash, Set<CompiledClass> classes) {
+
+        boolean references(Set<String> names) {
+            return classes.stream()
+                .map(CompiledClass::classFile)
+                .map(ClassFile::references)
+                .flatMap(Collection::stream)
+                .anyMatch(names::contains);
+        }
+
+        Set<String> names() {
+            return classes.stream()
+                .map(CompiledClass::classFile)
+                .map(ClassFile::name)
+                .collect(Collectors.toSet());
+        }
+    }
+
+    record CompiledClass(Path path, ClassFile classFile) {}
+}
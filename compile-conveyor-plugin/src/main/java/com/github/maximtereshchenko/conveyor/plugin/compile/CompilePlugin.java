@@ -27,8 +27,11 @@ public final class CompilePlugin implements ConveyorPlugin {
         var classesDirectory = configuredPath(configuration, "classes.directory")
             .orElseGet(() -> classesDirectory(schematic, "classes"));
         var compiler = new Compiler();
+        var incremental = "true".equals(configuration.get("incremental"));
         return List.of(
             compileSourcesConveyorTask(
+                schematic,
+                incremental,
                 "compile-sources",
                 BindingStage.COMPILE,
                 BindingStep.RUN,
@@ -48,6 +51,8 @@ public final class CompilePlugin implements ConveyorPlugin {
                 Cache.DISABLED
             ),
             compileSourcesConveyorTask(
+                schematic,
+                incremental,
                 "compile-test-sources",
                 BindingStage.TEST,
                 BindingStep.PREPARE,
@@ -69,6 +74,8 @@ public final class CompilePlugin implements ConveyorPlugin {
     }
 
     private ConveyorTask compileSourcesConveyorTask(
+        ConveyorSchematic schematic,
+        boolean incremental,
         String name,
         BindingStage stage,
         BindingStep step,
@@ -77,24 +84,46 @@ public final class CompilePlugin implements ConveyorPlugin {
         Path classesDirectory,
         Compiler compiler
     ) {
+        var inputs = Stream.concat(
+                Stream.of(sourcesDirectory),
+                classpath.stream()
+            )
+            .map(PathConveyorTaskInput::new)
+            .collect(Collectors.<ConveyorTaskInput>toSet());
+        if (!incremental) {
+            return new ConveyorTask(
+                name,
+                stage,
+                step,
+                new CompileSourcesAction(
+                    sourcesDirectory,
+                    classpath,
+                    classesDirectory,
+                    compiler
+                ),
+                inputs,
+                Set.of(new PathConveyorTaskOutput(classesDirectory)),
+                Cache.ENABLED
+            );
+        }
+        var stateDirectory = classesDirectory(schematic, "incremental").resolve(name);
         return new ConveyorTask(
             name,
             stage,
             step,
-            new CompileSourcesAction(
+            new IncrementalCompileSourcesAction(
                 sourcesDirectory,
                 classpath,
                 classesDirectory,
+                stateDirectory,
                 compiler
             ),
-            Stream.concat(
-                    Stream.of(sourcesDirectory),
-                    classpath.stream()
-                )
-                .map(PathConveyorTaskInput::new)
-                .collect(Collectors.toSet()),
-            Set.of(new PathConveyorTaskOutput(classesDirectory)),
-            Cache.ENABLED
+            inputs,
+            Set.of(
+                new PathConveyorTaskOutput(classesDirectory),
+                new PathConveyorTaskOutput(stateDirectory)
+            ),
+            Cache.INCREMENTAL
         );
     }
 
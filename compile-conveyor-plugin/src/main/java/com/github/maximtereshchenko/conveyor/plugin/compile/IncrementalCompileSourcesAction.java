@@ -0,0 +1,181 @@
+package com.github.maximtereshchenko.conveyor.plugin.compile;
+
+import com.github.maximtereshchenko.conveyor.compiler.Compiler;
+import com.github.maximtereshchenko.conveyor.files.FileTree;
+import com.github.maximtereshchenko.conveyor.plugin.api.ConveyorTaskAction;
+import com.github.maximtereshchenko.conveyor.plugin.api.ConveyorTaskTracer;
+import com.github.maximtereshchenko.conveyor.plugin.api.TracingImportance;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+final class IncrementalCompileSourcesAction implements ConveyorTaskAction {
+
+    private final Path sourcesDirectory;
+    private final Set<Path> classpath;
+    private final Path outputDirectory;
+    private final Path stateDirectory;
+    private final Compiler compiler;
+
+    IncrementalCompileSourcesAction(
+        Path sourcesDirectory,
+        Set<Path> classpath,
+        Path outputDirectory,
+        Path stateDirectory,
+        Compiler compiler
+    ) {
+        this.sourcesDirectory = sourcesDirectory;
+        this.classpath = classpath;
+        this.outputDirectory = outputDirectory;
+        this.stateDirectory = stateDirectory;
+        this.compiler = compiler;
+    }
+
+    @Override
+    public void execute(ConveyorTaskTracer tracer) {
+        var stateFile = stateDirectory.resolve("state");
+        var previous = CompilationState.from(stateFile);
+        new FileTree(stateDirectory).delete();
+        if (!Files.exists(sourcesDirectory)) {
+            new FileTree(outputDirectory).delete();
+            tracer.submit(
+                TracingImportance.WARN,
+                () -> "No sources to compile at " + sourcesDirectory
+            );
+            return;
+        }
+        var hashes = hashes(new FileTree(sourcesDirectory).files());
+        var classpathChecksum = classpathChecksum();
+        var state = previous.filter(compilationState ->
+                compilationState.classpath().equals(classpathChecksum)
+            )
+            .filter(compilationState -> compilationState.isIntact(outputDirectory))
+            .orElseGet(() -> {
+                new FileTree(outputDirectory).delete();
+                return new CompilationState(classpathChecksum, Map.of());
+            });
+        var affected = state.affected(hashes);
+        var stale = new HashSet<>(state.sources().keySet());
+        stale.removeAll(hashes.keySet());
+        stale.addAll(affected);
+        state.classes(stale)
+            .stream()
+            .map(outputDirectory::resolve)
+            .map(FileTree::new)
+            .forEach(FileTree::delete);
+        state.with(classpathChecksum, hashes.keySet(), compiled(affected, hashes, tracer))
+            .write(stateFile);
+        tracer.submit(
+            TracingImportance.INFO,
+            () -> "Compiled %d of %d sources to %s".formatted(
+                affected.size(),
+                hashes.size(),
+                outputDirectory
+            )
+        );
+    }
+
+    private Map<Path, CompilationState.CompiledSource> compiled(
+        Set<Path> sources,
+        Map<Path, String> hashes,
+        ConveyorTaskTracer tracer
+    ) {
+        if (sources.isEmpty()) {
+            return Map.of();
+        }
+        var fullClasspath = new HashSet<>(classpath);
+        fullClasspath.add(outputDirectory);
+        var outputs = compiler.compile(
+            sources.stream()
+                .map(sourcesDirectory::resolve)
+                .collect(Collectors.toSet()),
+            fullClasspath,
+            outputDirectory,
+            diagnostic -> tracer.submit(TracingImportance.WARN, diagnostic::toString)
+        );
+        var compiled = new HashMap<Path, CompilationState.CompiledSource>();
+        for (var source : sources) {
+            compiled.put(
+                source,
+                new CompilationState.CompiledSource(
+                    hashes.get(source),
+                    outputs.getOrDefault(sourcesDirectory.resolve(source), Set.of())
+                        .stream()
+                        .map(path ->
+                            new CompilationState.CompiledClass(
+                                outputDirectory.relativize(path),
+                                ClassFile.from(path)
+                            )
+                        )
+                        .collect(Collectors.toSet())
+                )
+            );
+        }
+        return compiled;
+    }
+
+    private Map<Path, String> hashes(Set<Path> sources) {
+        return sources.stream()
+            .collect(
+                Collectors.toMap(
+                    sourcesDirectory::relativize,
+                    source -> HexFormat.of()
+                        .formatHex(
+                            messageDigest().digest(
+                                new FileTree(source).read(InputStream::readAllBytes)
+                            )
+                        )
+                )
+            );
+    }
+
+    private String classpathChecksum() {
+        var messageDigest = messageDigest();
+        for (var entry : new TreeSet<>(classpath)) {
+            for (var file : new FileTree(entry).files()) {
+                messageDigest.update(
+                    "%s %d %s%n".formatted(file, size(file), lastModifiedTime(file))
+                        .getBytes(StandardCharsets.UTF_8)
+                );
+            }
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    private long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String lastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MessageDigest messageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -118,4 +118,60 @@ final class CompilePluginTests {
                 )
             );
     }
+
+    @Test
+    void givenIncrementalConfiguration_whenTasks_thenCompileTasksAreIncremental(@TempDir Path path)
+        throws IOException {
+        var sources = path.resolve("sources");
+        var classes = path.resolve("classes");
+        var testSources = path.resolve("test-sources");
+        var testClasses = path.resolve("test-classes");
+        var incremental = path.resolve(".conveyor").resolve("incremental");
+
+        new Dsl(new CompilePlugin(), path)
+            .givenConfiguration("incremental", "true")
+            .givenConfiguration("sources.directory", sources)
+            .givenConfiguration("classes.directory", classes)
+            .givenConfiguration("test.sources.directory", testSources)
+            .givenConfiguration("test.classes.directory", testClasses)
+            .tasks()
+            .contain(
+                new ConveyorTask(
+                    "compile-sources",
+                    BindingStage.COMPILE,
+                    BindingStep.RUN,
+                    null,
+                    Set.of(new PathConveyorTaskInput(sources)),
+                    Set.of(
+                        new PathConveyorTaskOutput(classes),
+                        new PathConveyorTaskOutput(incremental.resolve("compile-sources"))
+                    ),
+                    Cache.INCREMENTAL
+                ),
+                new ConveyorTask(
+                    "publish-exploded-jar-artifact",
+                    BindingStage.COMPILE,
+                    BindingStep.FINALIZE,
+                    null,
+                    Set.of(),
+                    Set.of(),
+                    Cache.DISABLED
+                ),
+                new ConveyorTask(
+                    "compile-test-sources",
+                    BindingStage.TEST,
+                    BindingStep.PREPARE,
+                    null,
+                    Set.of(
+                        new PathConveyorTaskInput(classes),
+                        new PathConveyorTaskInput(testSources)
+                    ),
+                    Set.of(
+                        new PathConveyorTaskOutput(testClasses),
+                        new PathConveyorTaskOutput(incremental.resolve("compile-test-sources"))
+                    ),
+                    Cache.INCREMENTAL
+                )
+            );
+    }
 }
@@ -6,7 +6,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 
 import static com.github.maximtereshchenko.conveyor.common.test.MoreAssertions.assertThat;
 
@@ -143,4 +145,140 @@ final class CompileSourcesTests {
 
         assertThat(dependentClasses.resolve("main").resolve("Main.class")).exists();
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenIncrementalCompilation_whenSourceChanged_thenOnlySourceAndDependentsAreRecompiled(
+        @TempDir Path path
+    ) throws IOException {
+        var sources = path.resolve("sources");
+        var changed = sources.resolve("Changed.java");
+        new FileTree(changed)
+            .write("""
+                   package main;
+                   class Changed {}
+                   """);
+        new FileTree(sources.resolve("Dependent.java"))
+            .write("""
+                   package main;
+                   class Dependent {
+                       Changed changed;
+                   }
+                   """);
+        new FileTree(sources.resolve("Unrelated.java"))
+            .write("""
+                   package main;
+                   class Unrelated {}
+                   """);
+        var classes = path.resolve("classes");
+        var nonExistent = path.resolve("non-existent");
+        var dsl = new Dsl(new CompilePlugin(), path)
+            .givenConfiguration("incremental", "true")
+            .givenConfiguration("sources.directory", sources)
+            .givenConfiguration("classes.directory", classes)
+            .givenConfiguration("test.sources.directory", nonExistent)
+            .givenConfiguration("test.classes.directory", nonExistent);
+        dsl.tasks().execute();
+        var dependent = classes.resolve("main").resolve("Dependent.class");
+        var unrelated = classes.resolve("main").resolve("Unrelated.class");
+        Files.setLastModifiedTime(dependent, FileTime.fromMillis(0));
+        Files.setLastModifiedTime(unrelated, FileTime.fromMillis(0));
+        new FileTree(changed)
+            .write("""
+                   package main;
+                   class Changed {
+                       int field;
+                   }
+                   """);
+
+        dsl.tasks().execute();
+
+        assertThat(Files.getLastModifiedTime(dependent)).isNotEqualTo(FileTime.fromMillis(0));
+        assertThat(Files.getLastModifiedTime(unrelated)).isEqualTo(FileTime.fromMillis(0));
+    }
+
+    @Test
+    void givenIncrementalCompilation_whenInheritedMethodChanged_thenIndirectDependentsAreRecompiled(
+        @TempDir Path path
+    ) throws IOException {
+        var sources = path.resolve("sources");
+        var base = sources.resolve("Base.java");
+        new FileTree(base)
+            .write("""
+                   package main;
+                   class Base {
+                       void method(int value) {}
+                   }
+                   """);
+        new FileTree(sources.resolve("Derived.java"))
+            .write("""
+                   package main;
+                   class Derived extends Base {}
+                   """);
+        new FileTree(sources.resolve("Caller.java"))
+            .write("""
+                   package main;
+                   class Caller {
+                       void call(Derived derived) {
+                           derived.method(1);
+                       }
+                   }
+                   """);
+        var classes = path.resolve("classes");
+        var nonExistent = path.resolve("non-existent");
+        var dsl = new Dsl(new CompilePlugin(), path)
+            .givenConfiguration("incremental", "true")
+            .givenConfiguration("sources.directory", sources)
+            .givenConfiguration("classes.directory", classes)
+            .givenConfiguration("test.sources.directory", nonExistent)
+            .givenConfiguration("test.classes.directory", nonExistent);
+        dsl.tasks().execute();
+        var caller = classes.resolve("main").resolve("Caller.class");
+        Files.setLastModifiedTime(caller, FileTime.fromMillis(0));
+        new FileTree(base)
+            .write("""
+                   package main;
+                   class Base {
+                       void method(long value) {}
+                   }
+                   """);
+
+        dsl.tasks().execute();
+
+        assertThat(Files.getLastModifiedTime(caller)).isNotEqualTo(FileTime.fromMillis(0));
+    }
+
+    @Test
+    void givenIncrementalCompilation_whenSourceDeleted_thenItsClassesAreDeleted(@TempDir Path path)
+        throws IOException {
+        var sources = path.resolve("sources");
+        var deleted = sources.resolve("Deleted.java");
+        new FileTree(deleted)
+            .write("""
+                   package main;
+                   class Deleted {
+                       class Nested {}
+                   }
+                   """);
+        new FileTree(sources.resolve("Main.java"))
+            .write("""
+                   package main;
+                   class Main {}
+                   """);
+        var classes = path.resolve("classes");
+        var nonExistent = path.resolve("non-existent");
+        var dsl = new Dsl(new CompilePlugin(), path)
+            .givenConfiguration("incremental", "true")
+            .givenConfiguration("sources.directory", sources)
+            .givenConfiguration("classes.directory", classes)
+            .givenConfiguration("test.sources.directory", nonExistent)
+            .givenConfiguration("test.classes.directory", nonExistent);
+        dsl.tasks().execute();
+        Files.delete(deleted);
+
+        dsl.tasks().execute();
+
+        assertThat(classes.resolve("main").resolve("Deleted.class")).doesNotExist();
+        assertThat(classes.resolve("main").resolve("Deleted$Nested.class")).doesNotExist();
+        assertThat(classes.resolve("main").resolve("Main.class")).exists();
+    }
+}
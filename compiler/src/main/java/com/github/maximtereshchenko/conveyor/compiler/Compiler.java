@@ -4,31 +4,43 @@ import javax.tools.DiagnosticListener;
 import javax.tools.JavaCompiler;
 import javax.tools.JavaFileObject;
 import javax.tools.ToolProvider;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public final class Compiler {
 
-    private final JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+    private static final JavaCompiler JAVA_COMPILER = ToolProvider.getSystemJavaCompiler();
+    private static final FileManagerPool FILE_MANAGER_POOL = new FileManagerPool(JAVA_COMPILER);
 
-    public void compile(
+    public Map<Path, Set<Path>> compile(
         Set<Path> sources,
         Set<Path> classpath,
         Path outputDirectory,
         DiagnosticListener<JavaFileObject> diagnosticListener
     ) {
-        var compilationTask = compilationTask(
-            sources,
-            classpath,
-            outputDirectory,
-            diagnosticListener
+        var pooled = FILE_MANAGER_POOL.borrow(
+            Stream.concat(classpath.stream(), Stream.of(outputDirectory))
+                .collect(Collectors.toSet())
         );
-        if (Boolean.FALSE.equals(compilationTask.call())) {
-            throw new IllegalArgumentException("Could not compile");
+        try {
+            var fileManager = new TrackingFileManager(pooled.fileManager());
+            var compilationTask = compilationTask(
+                sources,
+                classpath,
+                outputDirectory,
+                fileManager,
+                diagnosticListener
+            );
+            if (Boolean.FALSE.equals(compilationTask.call())) {
+                throw new IllegalArgumentException("Could not compile");
+            }
+            return fileManager.outputs();
+        } finally {
+            FILE_MANAGER_POOL.release(pooled);
         }
     }
 
@@ -36,14 +48,10 @@ public final class Compiler {
         Set<Path> sources,
         Set<Path> classpath,
         Path outputDirectory,
+        TrackingFileManager fileManager,
         DiagnosticListener<JavaFileObject> diagnosticListener
     ) {
-        var fileManager = javaCompiler.getStandardFileManager(
-            diagnosticListener,
-            Locale.ROOT,
-            StandardCharsets.UTF_8
-        );
-        return javaCompiler.getTask(
+        return JAVA_COMPILER.getTask(
             null,
             fileManager,
             diagnosticListener,
@@ -52,7 +60,7 @@ public final class Compiler {
                 "-d", outputDirectory.toString()
             ),
             List.of(),
-            fileManager.getJavaFileObjectsFromPaths(sources)
+            fileManager.javaFileObjects(sources)
         );
     }
 
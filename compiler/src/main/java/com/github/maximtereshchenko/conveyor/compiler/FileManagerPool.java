@@ -0,0 +1,121 @@
+package com.github.maximtereshchenko.conveyor.compiler;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+final class FileManagerPool {
+
+    private static final int MAXIMUM_IDLE = Runtime.getRuntime().availableProcessors();
+
+    private final JavaCompiler javaCompiler;
+    private final ConcurrentLinkedDeque<PooledFileManager> idle = new ConcurrentLinkedDeque<>();
+
+    FileManagerPool(JavaCompiler javaCompiler) {
+        this.javaCompiler = javaCompiler;
+    }
+
+    PooledFileManager borrow(Set<Path> paths) {
+        var snapshots = snapshots(paths);
+        for (var pooled = idle.pollFirst(); pooled != null; pooled = idle.pollFirst()) {
+            if (pooled.isCompatible(snapshots)) {
+                pooled.snapshots().putAll(snapshots);
+                return pooled;
+            }
+            close(pooled);
+        }
+        return new PooledFileManager(
+            javaCompiler.getStandardFileManager(null, Locale.ROOT, StandardCharsets.UTF_8),
+            new HashMap<>(snapshots)
+        );
+    }
+
+    void release(PooledFileManager pooled) {
+        if (idle.size() < MAXIMUM_IDLE) {
+            idle.offerFirst(pooled);
+        } else {
+            close(pooled);
+        }
+    }
+
+    private Map<Path, Snapshot> snapshots(Set<Path> paths) {
+        var snapshots = new HashMap<Path, Snapshot>();
+        for (var path : paths) {
+            snapshots.put(path, snapshot(path));
+        }
+        return snapshots;
+    }
+
+    private Snapshot snapshot(Path path) {
+        if (!Files.exists(path)) {
+            return new Snapshot(Kind.MISSING, 0, FileTime.fromMillis(0), null);
+        }
+        if (Files.isDirectory(path)) {
+            return new Snapshot(Kind.DIRECTORY, 0, FileTime.fromMillis(0), null);
+        }
+        try {
+            var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new Snapshot(
+                Kind.ARCHIVE,
+                attributes.size(),
+                attributes.lastModifiedTime(),
+                identity(path, attributes)
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Object identity(Path path, BasicFileAttributes attributes) throws IOException {
+        var fileKey = attributes.fileKey();
+        if (fileKey != null) {
+            return fileKey;
+        }
+        var checksum = new CRC32C();
+        try (var inputStream = new CheckedInputStream(Files.newInputStream(path), checksum)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return checksum.getValue();
+    }
+
+    private void close(PooledFileManager pooled) {
+        try {
+            pooled.fileManager().close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private enum Kind {
+
+        MISSING, DIRECTORY, ARCHIVE
+    }
+
+    record PooledFileManager(StandardJavaFileManager fileManager, Map<Path, Snapshot> snapshots) {
+
+        boolean isCompatible(Map<Path, Snapshot> other) {
+            return other.entrySet()
+                .stream()
+                .allMatch(entry -> {
+                    var snapshot = snapshots.get(entry.getKey());
+                    return snapshot == null || snapshot.equals(entry.getValue());
+                });
+        }
+    }
+
+    record Snapshot(Kind kind, long size, FileTime lastModifiedTime, Object identity) {}
+}
@@ -0,0 +1,44 @@
+package com.github.maximtereshchenko.conveyor.compiler;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+final class TrackingFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+    private final Map<Path, Set<Path>> outputs = new HashMap<>();
+
+    TrackingFileManager(StandardJavaFileManager fileManager) {
+        super(fileManager);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(
+        Location location,
+        String className,
+        JavaFileObject.Kind kind,
+        FileObject sibling
+    ) throws IOException {
+        var output = super.getJavaFileForOutput(location, className, kind, sibling);
+        if (sibling != null && kind == JavaFileObject.Kind.CLASS) {
+            outputs.computeIfAbsent(Path.of(sibling.toUri()), key -> new HashSet<>())
+                .add(Path.of(output.toUri()));
+        }
+        return output;
+    }
+
+    Iterable<? extends JavaFileObject> javaFileObjects(Set<Path> sources) {
+        return fileManager.getJavaFileObjectsFromPaths(sources);
+    }
+
+    Map<Path, Set<Path>> outputs() {
+        return Map.copyOf(outputs);
+    }
+}
@@ -0,0 +1,3 @@
+package com.github.maximtereshchenko.conveyor.api;
+
+public record ConcurrencyLimits(int workers, int forks, int downloads) {}
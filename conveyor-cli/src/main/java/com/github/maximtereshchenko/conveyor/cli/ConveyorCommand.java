@@ -1,5 +1,6 @@
 package com.github.maximtereshchenko.conveyor.cli;
 
+import com.github.maximtereshchenko.conveyor.api.ConcurrencyLimits;
 import com.github.maximtereshchenko.conveyor.api.Stage;
 import com.github.maximtereshchenko.conveyor.api.TaskCache;
 import com.github.maximtereshchenko.conveyor.api.TracingLevel;
@@ -10,6 +11,7 @@ import picocli.CommandLine;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 @CommandLine.Command(
@@ -25,6 +27,21 @@ final class ConveyorCommand implements Runnable {
         description = "Construct schematics one after another"
     )
     private boolean serial;
+    @CommandLine.Option(
+        names = "--max-workers",
+        description = "Maximum number of tasks executed at the same time"
+    )
+    private int maximumWorkers = Runtime.getRuntime().availableProcessors();
+    @CommandLine.Option(
+        names = "--max-forks",
+        description = "Maximum number of tasks running forked processes at the same time"
+    )
+    private int maximumForks = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    @CommandLine.Option(
+        names = "--max-downloads",
+        description = "Maximum number of artifacts downloaded at the same time"
+    )
+    private int maximumDownloads = 8;
     @CommandLine.Option(
         names = "--disable-task-cache",
         description = "Do not use task cache during construction"
@@ -43,14 +60,17 @@ final class ConveyorCommand implements Runnable {
 
     @Override
     public void run() {
-        ConveyorFacade.from(
-                JacksonAdapter.configured(),
-                executor(),
-                taskCache(),
-                System.out::println,
-                tracingLevel()
-            )
-            .construct(path.toAbsolutePath().normalize(), stages);
+        try (var executorService = executorService()) {
+            ConveyorFacade.from(
+                    JacksonAdapter.configured(),
+                    executor(executorService),
+                    new ConcurrencyLimits(maximumWorkers, maximumForks, maximumDownloads),
+                    taskCache(),
+                    System.out::println,
+                    tracingLevel()
+                )
+                .construct(path.toAbsolutePath().normalize(), stages);
+        }
     }
 
     private TaskCache taskCache() {
@@ -60,10 +80,14 @@ final class ConveyorCommand implements Runnable {
         return TaskCache.ENABLED;
     }
 
-    private Executor executor() {
+    private Executor executor(ExecutorService executorService) {
         if (serial) {
             return Runnable::run;
         }
+        return executorService;
+    }
+
+    private ExecutorService executorService() {
         return Executors.newThreadPerTaskExecutor(
             Thread.ofVirtual()
                 .name("virtual-", 1)
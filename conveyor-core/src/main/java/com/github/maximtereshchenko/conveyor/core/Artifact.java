@@ -12,4 +12,6 @@ interface Artifact {
     Path path();
 
     Set<Artifact> dependencies();
+
+    Set<Id> exclusions();
 }
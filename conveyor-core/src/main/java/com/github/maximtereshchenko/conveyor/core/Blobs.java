@@ -0,0 +1,183 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import com.github.maximtereshchenko.conveyor.files.FileTree;
+import com.github.maximtereshchenko.conveyor.files.Generic;
+import com.github.maximtereshchenko.conveyor.files.IOSupplier;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+final class Blobs {
+
+    private static final FileTime SEALED = FileTime.fromMillis(0);
+
+    private final Path directory;
+    private final boolean isLinking;
+
+    Blobs(Path directory, boolean isLinking) {
+        this.directory = directory;
+        this.isLinking = isLinking;
+    }
+
+    Blobs(Path directory) {
+        this(directory, false);
+    }
+
+    boolean isIntact(Hash hash, long size) {
+        var blob = hash.path(directory);
+        if (!Files.isRegularFile(blob)) {
+            return false;
+        }
+        var attributes = apply(() -> Files.readAttributes(blob, BasicFileAttributes.class));
+        return attributes.size() == size && attributes.lastModifiedTime().equals(SEALED);
+    }
+
+    long store(Hash hash, Path file) {
+        var size = apply(() -> Files.size(file));
+        if (isIntact(hash, size)) {
+            apply(() -> touch(hash.path(directory)));
+            return size;
+        }
+        var blob = hash.path(directory);
+        apply(() -> {
+            Files.createDirectories(blob.getParent());
+            var temporary = Files.createTempFile(blob.getParent(), null, null);
+            try {
+                Files.copy(file, temporary, StandardCopyOption.REPLACE_EXISTING);
+                Files.setLastModifiedTime(temporary, SEALED);
+                Files.move(
+                    temporary,
+                    blob,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING
+                );
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+            return null;
+        });
+        return size;
+    }
+
+    boolean restore(Hash hash, Path destination) {
+        var blob = hash.path(directory);
+        return apply(() -> {
+            Files.createDirectories(destination.getParent());
+            Files.deleteIfExists(destination);
+            try {
+                touch(blob);
+                if (isLinking) {
+                    link(blob, destination);
+                } else {
+                    Files.copy(blob, destination);
+                }
+                return Boolean.TRUE;
+            } catch (NoSuchFileException e) {
+                return Boolean.FALSE;
+            }
+        });
+    }
+
+    void evict(long maximumSize, Instant start, Tracer tracer) {
+        var blobs = new ArrayList<Blob>();
+        var written = new ArrayList<Blob>();
+        var evicted = new ArrayList<Blob>();
+        new FileTree(directory).walk(
+            new Generic(file -> {
+                try {
+                    var blob = new Blob(
+                        file,
+                        Files.readAttributes(file, BasicFileAttributes.class)
+                    );
+                    if (blob.isSealed()) {
+                        blobs.add(blob);
+                    } else if (blob.lastModifiedTime().compareTo(FileTime.from(start)) < 0) {
+                        Files.deleteIfExists(file);
+                        evicted.add(blob);
+                    } else {
+                        written.add(blob);
+                    }
+                } catch (NoSuchFileException e) {
+                    tracer.submit(Importance.DEBUG, () -> file + " was already evicted");
+                }
+            })
+        );
+        var total = Stream.concat(blobs.stream(), written.stream()).mapToLong(Blob::size).sum();
+        for (var blob : leastRecentlyAccessed(blobs, FileTime.from(start))) {
+            if (total <= maximumSize) {
+                break;
+            }
+            apply(() -> Files.deleteIfExists(blob.path()));
+            total -= blob.size();
+            evicted.add(blob);
+        }
+        if (!evicted.isEmpty()) {
+            tracer.submitEvictedBlobs(
+                evicted.size(),
+                evicted.stream().mapToLong(Blob::size).sum()
+            );
+        }
+    }
+
+    private List<Blob> leastRecentlyAccessed(List<Blob> blobs, FileTime start) {
+        return blobs.stream()
+            .filter(blob -> blob.lastAccessTime().compareTo(start) < 0)
+            .sorted(Comparator.comparing(Blob::lastAccessTime))
+            .toList();
+    }
+
+    private void link(Path blob, Path destination) throws IOException {
+        try {
+            Files.createLink(destination, blob);
+        } catch (NoSuchFileException e) {
+            throw e;
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(blob, destination, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Void touch(Path blob) throws IOException {
+        Files.getFileAttributeView(blob, BasicFileAttributeView.class)
+            .setTimes(null, FileTime.from(Instant.now()), null);
+        return null;
+    }
+
+    private <R> R apply(IOSupplier<R> supplier) {
+        try {
+            return supplier.get();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Blob(Path path, BasicFileAttributes attributes) {
+
+        boolean isSealed() {
+            return attributes.lastModifiedTime().equals(SEALED);
+        }
+
+        long size() {
+            return attributes.size();
+        }
+
+        FileTime lastModifiedTime() {
+            return attributes.lastModifiedTime();
+        }
+
+        FileTime lastAccessTime() {
+            return attributes.lastAccessTime();
+        }
+    }
+}
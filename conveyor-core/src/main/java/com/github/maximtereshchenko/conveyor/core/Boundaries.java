@@ -1,37 +1,59 @@
 package com.github.maximtereshchenko.conveyor.core;
 
 import com.github.maximtereshchenko.conveyor.files.FileTree;
-import com.github.maximtereshchenko.conveyor.files.Generic;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.Set;
-import java.util.TreeSet;
-import java.util.zip.CRC32C;
-import java.util.zip.Checksum;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
-abstract class Boundaries<T extends Comparable<T>> {
+abstract class Boundaries<T> {
 
-    long checksum(Set<T> elements) {
-        var checksum = new CRC32C();
-        for (var element : new TreeSet<>(elements)) {
-            update(checksum, element);
-        }
-        return checksum.getValue();
+    private final Path root;
+    private final HashFunction hashFunction;
+    private final FileHashes fileHashes;
+
+    Boundaries(Path root, HashFunction hashFunction, FileHashes fileHashes) {
+        this.root = root;
+        this.hashFunction = hashFunction;
+        this.fileHashes = fileHashes;
     }
 
-    void update(Checksum checksum, Path path) {
-        new FileTree(path).walk(new Generic(file -> updateForFile(checksum, file)));
+    Hash checksum(Set<T> elements) {
+        var hasher = new Hasher(hashFunction, fileHashes);
+        elements.stream()
+            .map(this::hasher)
+            .toList()
+            .stream()
+            .map(Hasher::hash)
+            .sorted(Comparator.comparing(Hash::toString))
+            .map(Hash::bytes)
+            .forEach(hasher::update);
+        return hasher.hash();
     }
 
-    abstract long checksum();
+    void update(Hasher hasher, Path path) {
+        for (var file : new FileTree(path).files()) {
+            hasher.update(normalized(path, file));
+            hasher.updateWithContent(file);
+        }
+    }
 
-    abstract void update(Checksum checksum, T element);
+    abstract Hash checksum();
+
+    abstract void update(Hasher hasher, T element);
+
+    private Hasher hasher(T element) {
+        var hasher = new Hasher(hashFunction, fileHashes);
+        update(hasher, element);
+        return hasher;
+    }
 
-    private void updateForFile(Checksum checksum, Path file) throws IOException {
-        checksum.update(file.toString().getBytes(StandardCharsets.UTF_8));
-        checksum.update(Files.readAllBytes(file));
+    private String normalized(Path path, Path file) {
+        var base = file.startsWith(root) ? root : path;
+        return StreamSupport.stream(base.relativize(file).spliterator(), false)
+            .map(Path::toString)
+            .collect(Collectors.joining("/"));
     }
 }
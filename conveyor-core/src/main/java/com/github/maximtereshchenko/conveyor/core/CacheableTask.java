@@ -2,8 +2,10 @@ package com.github.maximtereshchenko.conveyor.core;
 
 import com.github.maximtereshchenko.conveyor.plugin.api.BindingStage;
 import com.github.maximtereshchenko.conveyor.plugin.api.BindingStep;
+import com.github.maximtereshchenko.conveyor.plugin.api.Cache;
 
 import java.nio.file.Path;
+import java.util.Set;
 
 final class CacheableTask implements Task {
 
@@ -11,6 +13,8 @@ final class CacheableTask implements Task {
     private final Inputs inputs;
     private final Outputs outputs;
     private final TaskCache taskCache;
+    private final FileHashes fileHashes;
+    private final Cache cache;
     private final Path directory;
     private final Tracer tracer;
 
@@ -19,6 +23,8 @@ final class CacheableTask implements Task {
         Inputs inputs,
         Outputs outputs,
         TaskCache taskCache,
+        FileHashes fileHashes,
+        Cache cache,
         Path directory,
         Tracer tracer
     ) {
@@ -26,6 +32,8 @@ final class CacheableTask implements Task {
         this.inputs = inputs;
         this.outputs = outputs;
         this.taskCache = taskCache;
+        this.fileHashes = fileHashes;
+        this.cache = cache;
         this.directory = directory;
         this.tracer = tracer;
     }
@@ -45,13 +53,25 @@ final class CacheableTask implements Task {
         return original.step();
     }
 
+    @Override
+    public Set<Path> inputs() {
+        return original.inputs();
+    }
+
+    @Override
+    public Set<Path> outputs() {
+        return original.outputs();
+    }
+
     @Override
     public void execute() {
         if (taskCache.changed(inputs, outputs)) {
-            outputs.delete();
-            if (taskCache.restore(inputs, directory)) {
+            if (taskCache.restore(inputs, outputs, directory)) {
                 tracer.submitTaskRestoredFromCache(original.name());
             } else {
+                if (cache != Cache.INCREMENTAL) {
+                    outputs.delete();
+                }
                 original.execute();
                 taskCache.store(inputs, outputs, directory);
             }
@@ -59,6 +79,8 @@ final class CacheableTask implements Task {
         } else {
             tracer.submitTaskUpToDate(original.name());
         }
+        fileHashes.store();
+        tracer.submitHashedBytes(original.name(), fileHashes.hashedBytes());
     }
 
     @Override
@@ -2,14 +2,31 @@ package com.github.maximtereshchenko.conveyor.core;
 
 import com.github.maximtereshchenko.conveyor.plugin.api.ConveyorTask;
 
+import java.net.URI;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 final class CacheableTaskFactory implements TaskFactory {
 
     private final TaskFactory original;
+    private final TaskCacheEviction taskCacheEviction;
+    private final Permits downloads;
+    private final RemoteTaskCacheUploads remoteTaskCacheUploads;
+    private final Map<ClientKey, RemoteTaskCacheClient> remoteTaskCacheClients =
+        new ConcurrentHashMap<>();
 
-    CacheableTaskFactory(TaskFactory original) {
+    CacheableTaskFactory(
+        TaskFactory original,
+        TaskCacheEviction taskCacheEviction,
+        Permits downloads,
+        RemoteTaskCacheUploads remoteTaskCacheUploads
+    ) {
         this.original = original;
+        this.taskCacheEviction = taskCacheEviction;
+        this.downloads = downloads;
+        this.remoteTaskCacheUploads = remoteTaskCacheUploads;
     }
 
     @Override
@@ -22,15 +39,80 @@ final class CacheableTaskFactory implements TaskFactory {
     ) {
         var task = original.task(directory, properties, plugin, conveyorTask, tracer);
         return switch (conveyorTask.cache()) {
-            case ENABLED -> new CacheableTask(
-                task,
-                new Inputs(conveyorTask.inputs()),
-                new Outputs(conveyorTask.outputs()),
-                new TaskCache(properties.tasksCacheDirectory().resolve(conveyorTask.name())),
-                directory,
-                tracer
-            );
+            case ENABLED, INCREMENTAL -> {
+                taskCacheEviction.register(
+                    properties.tasksCacheDirectory().resolve(conveyorTask.name()),
+                    properties.tasksCacheBlobsDirectory(),
+                    properties.tasksCacheMaximumSize()
+                );
+                yield cacheableTask(
+                    task,
+                    conveyorTask,
+                    properties.tasksCacheDirectory().resolve(conveyorTask.name()),
+                    new HashFunction(properties.tasksCacheHashAlgorithm()),
+                    new Blobs(
+                        properties.tasksCacheBlobsDirectory(),
+                        properties.tasksCacheLinks()
+                    ),
+                    remoteTaskCache(properties, conveyorTask, tracer),
+                    directory,
+                    tracer
+                );
+            }
             case DISABLED -> task;
         };
     }
+
+    private Task cacheableTask(
+        Task task,
+        ConveyorTask conveyorTask,
+        Path cacheDirectory,
+        HashFunction hashFunction,
+        Blobs blobs,
+        RemoteTaskCache remoteTaskCache,
+        Path directory,
+        Tracer tracer
+    ) {
+        var fileHashes = new FileHashes(cacheDirectory.resolve("files"), hashFunction);
+        return new CacheableTask(
+            task,
+            new Inputs(conveyorTask.inputs(), directory, hashFunction, fileHashes),
+            new Outputs(conveyorTask.outputs(), directory, hashFunction, fileHashes),
+            new TaskCache(cacheDirectory, blobs, fileHashes, hashFunction, remoteTaskCache),
+            fileHashes,
+            conveyorTask.cache(),
+            directory,
+            tracer
+        );
+    }
+
+    private RemoteTaskCache remoteTaskCache(
+        Properties properties,
+        ConveyorTask conveyorTask,
+        Tracer tracer
+    ) {
+        return properties.tasksCacheRemoteUri()
+            .<RemoteTaskCache>map(uri ->
+                new HttpRemoteTaskCache(
+                    URI.create("%s/%s".formatted(uri, conveyorTask.name())),
+                    remoteTaskCacheClients.computeIfAbsent(
+                        new ClientKey(
+                            uri,
+                            properties.remoteRepositoryConnectTimeout(),
+                            properties.remoteRepositoryRequestTimeout()
+                        ),
+                        key -> new RemoteTaskCacheClient(
+                            key.connectTimeout(),
+                            key.requestTimeout(),
+                            downloads
+                        )
+                    ),
+                    remoteTaskCacheUploads,
+                    tracer
+                )
+            )
+            .orElseGet(DisabledRemoteTaskCache::new);
+    }
+
+    private record ClientKey(URI uri, Duration connectTimeout, Duration requestTimeout) {}
 }
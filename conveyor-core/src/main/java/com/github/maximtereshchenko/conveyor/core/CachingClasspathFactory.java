@@ -19,11 +19,11 @@ final class CachingClasspathFactory implements ClasspathFactory {
     public Set<Path> classpath(Set<? extends Artifact> artifacts) {
         return cache.computeIfAbsent(
             artifacts.stream()
-                .map(artifact -> new Key(artifact.id(), artifact.version()))
+                .map(artifact -> new Key(artifact.id(), artifact.version(), artifact.path()))
                 .collect(Collectors.toSet()),
             key -> original.classpath(artifacts)
         );
     }
 
-    private record Key(Id id, Version version) {}
+    private record Key(Id id, Version version, Path path) {}
 }
@@ -1,5 +1,6 @@
 package com.github.maximtereshchenko.conveyor.core;
 
+import java.net.URI;
 import java.nio.file.Path;
 import java.util.Optional;
 
@@ -7,10 +8,16 @@ final class CachingRepository implements Repository<Path, Path> {
 
     private final Repository<Path, Resource> original;
     private final LocalDirectoryRepository cache;
+    private final SingleFlight<URI, Optional<Path>> singleFlight;
 
-    CachingRepository(Repository<Path, Resource> original, LocalDirectoryRepository cache) {
+    CachingRepository(
+        Repository<Path, Resource> original,
+        LocalDirectoryRepository cache,
+        SingleFlight<URI, Optional<Path>> singleFlight
+    ) {
         this.original = original;
         this.cache = cache;
+        this.singleFlight = singleFlight;
     }
 
     @Override
@@ -27,8 +34,14 @@ final class CachingRepository implements Repository<Path, Path> {
     public Optional<Path> artifact(Id id, Version version, Classifier classifier) {
         return cache.artifact(id, version, classifier)
             .or(() ->
-                original.artifact(id, version, classifier)
-                    .flatMap(artifact -> published(id, version, classifier, artifact))
+                singleFlight.result(
+                    cache.uri(id, version, classifier),
+                    () -> cache.artifact(id, version, classifier)
+                        .or(() ->
+                            original.artifact(id, version, classifier)
+                                .flatMap(artifact -> published(id, version, classifier, artifact))
+                        )
+                )
             );
     }
 
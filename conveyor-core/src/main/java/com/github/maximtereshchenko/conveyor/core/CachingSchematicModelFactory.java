@@ -3,13 +3,15 @@ package com.github.maximtereshchenko.conveyor.core;
 import java.nio.file.Path;
 import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 
 final class CachingSchematicModelFactory implements SchematicModelFactory {
 
     private final SchematicModelFactory original;
-    private final Map<Key, InheritanceHierarchyModel<SchematicModel>> cache =
-        new ConcurrentHashMap<>();
+    private final Map<Key, CompletableFuture<InheritanceHierarchyModel<SchematicModel>>>
+        cache = new ConcurrentHashMap<>();
 
     CachingSchematicModelFactory(SchematicModelFactory original) {
         this.original = original;
@@ -36,10 +38,32 @@ final class CachingSchematicModelFactory implements SchematicModelFactory {
         Version version,
         Repositories repositories
     ) {
-        return cache.computeIfAbsent(
-            new Key(id, version),
-            key -> original.inheritanceHierarchyModel(id, version, repositories)
-        );
+        var key = new Key(id, version);
+        var future = new CompletableFuture<InheritanceHierarchyModel<SchematicModel>>();
+        var inFlight = cache.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return awaited(inFlight);
+        }
+        try {
+            future.complete(original.inheritanceHierarchyModel(id, version, repositories));
+        } catch (RuntimeException e) {
+            cache.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return awaited(future);
+    }
+
+    private InheritanceHierarchyModel<SchematicModel> awaited(
+        CompletableFuture<InheritanceHierarchyModel<SchematicModel>> future
+    ) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
     }
 
     private record Key(Id id, Version version) {}
@@ -1,5 +1,6 @@
 package com.github.maximtereshchenko.conveyor.core;
 
+import com.github.maximtereshchenko.conveyor.api.ConcurrencyLimits;
 import com.github.maximtereshchenko.conveyor.api.ConveyorModule;
 import com.github.maximtereshchenko.conveyor.api.Stage;
 import com.github.maximtereshchenko.conveyor.api.TaskCache;
@@ -9,6 +10,7 @@ import com.github.maximtereshchenko.conveyor.api.port.TracingOutput;
 
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.concurrent.Executor;
@@ -18,29 +20,38 @@ public final class ConveyorFacade implements ConveyorModule {
 
     private final SchematicModelFactory schematicModelFactory;
     private final ClasspathFactory classpathFactory;
-    private final PomDefinitionFactory pomDefinitionFactory;
     private final SchematicDefinitionConverter schematicDefinitionConverter;
     private final PreferencesFactory preferencesFactory;
     private final TaskFactory taskFactory;
+    private final TaskCacheEviction taskCacheEviction;
+    private final RemoteTaskCacheUploads remoteTaskCacheUploads;
+    private final Permits workers;
+    private final RemoteRepositoryFactory remoteRepositoryFactory;
     private final Executor executor;
     private final Tracer tracer;
 
     private ConveyorFacade(
         SchematicModelFactory schematicModelFactory,
         ClasspathFactory classpathFactory,
-        PomDefinitionFactory pomDefinitionFactory,
         SchematicDefinitionConverter schematicDefinitionConverter,
         PreferencesFactory preferencesFactory,
         TaskFactory taskFactory,
+        TaskCacheEviction taskCacheEviction,
+        RemoteTaskCacheUploads remoteTaskCacheUploads,
+        Permits workers,
+        RemoteRepositoryFactory remoteRepositoryFactory,
         Executor executor,
         Tracer tracer
     ) {
         this.schematicModelFactory = schematicModelFactory;
         this.classpathFactory = classpathFactory;
-        this.pomDefinitionFactory = pomDefinitionFactory;
         this.schematicDefinitionConverter = schematicDefinitionConverter;
         this.preferencesFactory = preferencesFactory;
         this.taskFactory = taskFactory;
+        this.taskCacheEviction = taskCacheEviction;
+        this.remoteTaskCacheUploads = remoteTaskCacheUploads;
+        this.workers = workers;
+        this.remoteRepositoryFactory = remoteRepositoryFactory;
         this.executor = executor;
         this.tracer = tracer;
     }
@@ -48,6 +59,7 @@ public final class ConveyorFacade implements ConveyorModule {
     public static ConveyorModule from(
         SchematicDefinitionConverter schematicDefinitionConverter,
         Executor executor,
+        ConcurrencyLimits concurrencyLimits,
         TaskCache taskCache,
         TracingOutput tracingOutput,
         TracingLevel tracingOutputLevel
@@ -62,17 +74,32 @@ public final class ConveyorFacade implements ConveyorModule {
                 tracer
             )
         );
-        var taskFactory = new ExecutableTaskFactory();
+        var taskFactory = new ExecutableTaskFactory(new Permits(concurrencyLimits.forks()));
+        var taskCacheEviction = new TaskCacheEviction(tracer);
+        var remoteTaskCacheUploads = new RemoteTaskCacheUploads(executor);
+        var downloads = new Permits(concurrencyLimits.downloads());
         return new ConveyorFacade(
             cachingSchematicModelFactory,
-            new CachingClasspathFactory(new DefaultClasspathFactory(tracer)),
-            PomDefinitionFactory.configured(),
+            new CachingClasspathFactory(new DefaultClasspathFactory(executor, tracer)),
             cachingSchematicDefinitionConverter,
             new PreferencesFactory(cachingSchematicModelFactory),
             switch (taskCache) {
-                case ENABLED -> new CacheableTaskFactory(taskFactory);
+                case ENABLED -> new CacheableTaskFactory(
+                    taskFactory,
+                    taskCacheEviction,
+                    downloads,
+                    remoteTaskCacheUploads
+                );
                 case DISABLED -> taskFactory;
             },
+            taskCacheEviction,
+            remoteTaskCacheUploads,
+            new Permits(concurrencyLimits.workers()),
+            new RemoteRepositoryFactory(
+                PomDefinitionFactory.configured(),
+                cachingSchematicDefinitionConverter,
+                downloads
+            ),
             executor,
             tracer
         );
@@ -81,22 +108,66 @@ public final class ConveyorFacade implements ConveyorModule {
     @Override
     public void construct(Path path, List<Stage> stages) {
         var start = Instant.now();
-        schematics(path).construct(stages);
+        var models = schematicModelFactory.extendableLocalInheritanceHierarchyModels(path);
+        var resolutionSnapshot = resolutionSnapshot(models);
+        var interner = new Interner();
+        try {
+            schematics(path, models, resolutionSnapshot, interner).construct(stages);
+            tracer.submitMemoryUsage(Runtime.getRuntime(), interner);
+        } finally {
+            resolutionSnapshot.store();
+            remoteTaskCacheUploads.await();
+        }
         tracer.submitConstructionDuration(start, Instant.now());
+        executor.execute(() -> taskCacheEviction.evict(start));
+    }
+
+    private ResolutionSnapshot resolutionSnapshot(
+        LinkedHashSet<ExtendableLocalInheritanceHierarchyModel> models
+    ) {
+        var root = models.getFirst();
+        return ResolutionSnapshot.from(
+            root.properties()
+                .withResolvedPath(
+                    SchematicPropertyKey.RESOLUTION_SNAPSHOT_PATH,
+                    root.path().getParent(),
+                    root.rootPath().getParent().resolve(".conveyor-cache").resolve("resolution")
+                )
+                .path(SchematicPropertyKey.RESOLUTION_SNAPSHOT_PATH),
+            models.stream()
+                .map(ExtendableLocalInheritanceHierarchyModel::definitions)
+                .flatMap(Collection::stream)
+                .toList()
+        );
     }
 
-    private Schematics schematics(Path path) {
-        var schematics = schematicModelFactory.extendableLocalInheritanceHierarchyModels(path)
-            .stream()
+    private Schematics schematics(
+        Path path,
+        LinkedHashSet<ExtendableLocalInheritanceHierarchyModel> models,
+        ResolutionSnapshot resolutionSnapshot,
+        Interner interner
+    ) {
+        var pluginClassLoaders = new PluginClassLoaders();
+        var snapshotClasspathFactory = new SnapshotClasspathFactory(
+            classpathFactory,
+            resolutionSnapshot
+        );
+        var snapshotSchematicDefinitionConverter = new SnapshotSchematicDefinitionConverter(
+            schematicDefinitionConverter,
+            resolutionSnapshot
+        );
+        var schematics = models.stream()
             .map(extendableLocalInheritanceHierarchyModel ->
                 new Schematic(
                     extendableLocalInheritanceHierarchyModel,
-                    classpathFactory,
-                    pomDefinitionFactory,
-                    schematicDefinitionConverter,
+                    snapshotClasspathFactory,
+                    snapshotSchematicDefinitionConverter,
                     schematicModelFactory,
                     preferencesFactory,
+                    pluginClassLoaders,
                     taskFactory,
+                    remoteRepositoryFactory,
+                    interner,
                     tracer.withContext(
                         "schematic",
                         extendableLocalInheritanceHierarchyModel.id()
@@ -104,7 +175,13 @@ public final class ConveyorFacade implements ConveyorModule {
                 )
             )
             .collect(Collectors.toCollection(LinkedHashSet::new));
-        return Schematics.from(schematics, initial(schematics, path), executor);
+        return Schematics.from(
+            schematics,
+            initial(schematics, path),
+            executor,
+            workers,
+            tracer
+        );
     }
 
     private Schematic initial(LinkedHashSet<Schematic> schematics, Path path) {
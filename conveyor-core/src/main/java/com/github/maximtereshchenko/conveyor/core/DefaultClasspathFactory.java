@@ -2,14 +2,20 @@ package com.github.maximtereshchenko.conveyor.core;
 
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 final class DefaultClasspathFactory implements ClasspathFactory {
 
+    private final Executor executor;
     private final Tracer tracer;
 
-    DefaultClasspathFactory(Tracer tracer) {
+    DefaultClasspathFactory(Executor executor, Tracer tracer) {
+        this.executor = executor;
         this.tracer = tracer;
     }
 
@@ -19,23 +25,83 @@ final class DefaultClasspathFactory implements ClasspathFactory {
             return Set.of();
         }
         var relations = relations(artifacts);
-        var classpath = relations.ids()
-            .map(relations::resolved)
-            .flatMap(Optional::stream)
-            .map(Artifact::path)
-            .collect(Collectors.toSet());
+        var classpath = paths(
+            relations.ids()
+                .map(relations::resolved)
+                .flatMap(Optional::stream)
+                .toList()
+        );
         tracer.submitClasspath(artifacts, classpath);
         return classpath;
     }
 
     private Relations relations(Set<? extends Artifact> artifacts) {
-        var relations = new Relations();
+        var relations = new Relations(prefetched(artifacts));
         for (var artifact : artifacts) {
             relations.add(new Root(artifact));
         }
         return relations;
     }
 
+    private Map<Key, Set<Artifact>> prefetched(Set<? extends Artifact> artifacts) {
+        var dependencies = new ConcurrentHashMap<Key, Set<Artifact>>();
+        var visited = ConcurrentHashMap.<Key>newKeySet();
+        await(
+            artifacts.stream()
+                .map(artifact -> prefetch(artifact, visited, dependencies))
+                .toList()
+        );
+        return dependencies;
+    }
+
+    private CompletableFuture<Void> prefetch(
+        Artifact artifact,
+        Set<Key> visited,
+        Map<Key, Set<Artifact>> dependencies
+    ) {
+        var key = Key.from(artifact);
+        if (!visited.add(key)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.supplyAsync(artifact::dependencies, executor)
+            .thenCompose(direct -> {
+                dependencies.put(key, direct);
+                return CompletableFuture.allOf(
+                    direct.stream()
+                        .map(dependency -> prefetch(dependency, visited, dependencies))
+                        .toArray(CompletableFuture[]::new)
+                );
+            });
+    }
+
+    private Set<Path> paths(List<Artifact> artifacts) {
+        var paths = artifacts.stream()
+            .map(artifact -> CompletableFuture.supplyAsync(artifact::path, executor))
+            .toList();
+        await(paths);
+        return paths.stream()
+            .map(CompletableFuture::join)
+            .collect(Collectors.toSet());
+    }
+
+    private void await(List<? extends CompletableFuture<?>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private record Key(Id id, Version version, Set<Id> exclusions) {
+
+        static Key from(Artifact artifact) {
+            return new Key(artifact.id(), artifact.version(), artifact.exclusions());
+        }
+    }
+
     private static final class Edge extends ArtifactRelation {
 
         private final Artifact requirement;
@@ -84,8 +150,8 @@ final class DefaultClasspathFactory implements ClasspathFactory {
             return artifact;
         }
 
-        Collection<Edge> edges() {
-            return artifact.dependencies()
+        Collection<Edge> edges(Map<Key, Set<Artifact>> dependencies) {
+            return dependencies.get(Key.from(artifact))
                 .stream()
                 .map(dependency -> new Edge(artifact, dependency))
                 .toList();
@@ -96,14 +162,28 @@ final class DefaultClasspathFactory implements ClasspathFactory {
 
     private static class Relations {
 
-        private final Map<Id, SortedSet<ArtifactRelation>> indexed = new HashMap<>();
+        private final Map<Id, SortedSet<ArtifactRelation>> indexed = new LinkedHashMap<>();
+        private final Map<Id, Optional<Artifact>> resolved = new HashMap<>();
+        private final Set<Key> expanded = new HashSet<>();
+        private final Map<Key, Set<Artifact>> dependencies;
+
+        Relations(Map<Key, Set<Artifact>> dependencies) {
+            this.dependencies = dependencies;
+        }
 
         void add(ArtifactRelation artifactRelation) {
-            var artifact = artifactRelation.artifact();
-            indexed.computeIfAbsent(artifact.id(), key -> new TreeSet<>(comparator()))
-                .add(artifactRelation);
-            for (var edge : artifactRelation.edges()) {
-                add(edge);
+            var pending = new ArrayDeque<ArtifactRelation>();
+            pending.push(artifactRelation);
+            while (!pending.isEmpty()) {
+                var next = pending.pop();
+                indexed.computeIfAbsent(next.artifact().id(), key -> new TreeSet<>(comparator()))
+                    .add(next);
+                if (!expanded.add(Key.from(next.artifact()))) {
+                    continue;
+                }
+                var edges = new ArrayList<>(next.edges(dependencies));
+                Collections.reverse(edges);
+                edges.forEach(pending::push);
             }
         }
 
@@ -112,11 +192,23 @@ final class DefaultClasspathFactory implements ClasspathFactory {
         }
 
         Optional<Artifact> resolved(Id id) {
-            return indexed.get(id)
-                .stream()
-                .map(relation -> relation.resolved(this))
-                .flatMap(Optional::stream)
-                .findFirst();
+            var memoized = resolved.get(id);
+            if (memoized != null) {
+                return memoized;
+            }
+            var artifact = candidate(id);
+            resolved.put(id, artifact);
+            return artifact;
+        }
+
+        private Optional<Artifact> candidate(Id id) {
+            for (var relation : indexed.get(id)) {
+                var artifact = relation.resolved(this);
+                if (artifact.isPresent()) {
+                    return artifact;
+                }
+            }
+            return Optional.empty();
         }
 
         private Comparator<ArtifactRelation> comparator() {
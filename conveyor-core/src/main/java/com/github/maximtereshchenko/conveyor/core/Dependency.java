@@ -35,6 +35,11 @@ final class Dependency implements Artifact {
         return artifact.dependencies();
     }
 
+    @Override
+    public Set<Id> exclusions() {
+        return artifact.exclusions();
+    }
+
     DependencyScope scope() {
         return dependencyModel.scope().orElse(DependencyScope.IMPLEMENTATION);
     }
@@ -30,8 +30,7 @@ final class DirectlyReferencedArtifact extends StoredArtifact {
         Preferences preferences
     ) {
         return artifactModel.version()
-            .map(properties::interpolated)
-            .map(Version::new)
+            .map(properties::version)
             .or(() -> preferences.version(artifactModel.idModel().id(properties)))
             .orElseThrow();
     }
@@ -0,0 +1,19 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import com.github.maximtereshchenko.conveyor.files.IOConsumer;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+final class DisabledRemoteTaskCache implements RemoteTaskCache {
+
+    @Override
+    public boolean read(Hash key, IOConsumer<InputStream> consumer) {
+        return false;
+    }
+
+    @Override
+    public void write(Hash key, IOConsumer<OutputStream> consumer) {
+        //empty
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import com.github.maximtereshchenko.conveyor.files.FileTree;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+final class Durations {
+
+    private final Path path;
+    private final Map<String, Duration> current = new ConcurrentHashMap<>();
+    private Map<String, Duration> previous;
+
+    Durations(Path path) {
+        this.path = path;
+    }
+
+    Duration previous(String key) {
+        return previous().getOrDefault(key, Duration.ZERO);
+    }
+
+    Duration current(String key) {
+        return current.getOrDefault(key, Duration.ZERO);
+    }
+
+    void add(String key, Duration duration) {
+        current.merge(key, duration, Duration::plus);
+    }
+
+    void store() {
+        if (current.isEmpty()) {
+            return;
+        }
+        var all = new HashMap<>(previous());
+        all.putAll(current);
+        new FileTree(path).write(
+            all.entrySet()
+                .stream()
+                .map(entry -> "%d %s".formatted(entry.getValue().toMillis(), entry.getKey()))
+                .collect(Collectors.joining(System.lineSeparator()))
+        );
+    }
+
+    private synchronized Map<String, Duration> previous() {
+        if (previous == null) {
+            previous = read();
+        }
+        return previous;
+    }
+
+    private Map<String, Duration> read() {
+        var fileTree = new FileTree(path);
+        if (!fileTree.exists()) {
+            return Map.of();
+        }
+        return fileTree.read()
+            .lines()
+            .map(line -> line.split(" ", 2))
+            .filter(parts -> parts.length == 2)
+            .collect(
+                Collectors.toMap(
+                    parts -> parts[1],
+                    parts -> Duration.ofMillis(Long.parseLong(parts[0])),
+                    (first, second) -> second
+                )
+            );
+    }
+}
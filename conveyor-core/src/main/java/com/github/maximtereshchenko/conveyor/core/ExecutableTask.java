@@ -3,16 +3,32 @@ package com.github.maximtereshchenko.conveyor.core;
 import com.github.maximtereshchenko.conveyor.plugin.api.BindingStage;
 import com.github.maximtereshchenko.conveyor.plugin.api.BindingStep;
 import com.github.maximtereshchenko.conveyor.plugin.api.ConveyorTask;
+import com.github.maximtereshchenko.conveyor.plugin.api.ForkingConveyorTaskAction;
+import com.github.maximtereshchenko.conveyor.plugin.api.KeyValueConveyorTaskInput;
+import com.github.maximtereshchenko.conveyor.plugin.api.PathConveyorTaskInput;
+import com.github.maximtereshchenko.conveyor.plugin.api.PathConveyorTaskOutput;
+
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 final class ExecutableTask implements Task {
 
     private final String plugin;
     private final ConveyorTask conveyorTask;
+    private final Permits forks;
     private final Tracer tracer;
 
-    ExecutableTask(String plugin, ConveyorTask conveyorTask, Tracer tracer) {
+    ExecutableTask(
+        String plugin,
+        ConveyorTask conveyorTask,
+        Permits forks,
+        Tracer tracer
+    ) {
         this.plugin = plugin;
         this.conveyorTask = conveyorTask;
+        this.forks = forks;
         this.tracer = tracer;
     }
 
@@ -31,13 +47,40 @@ final class ExecutableTask implements Task {
         return conveyorTask.step();
     }
 
+    @Override
+    public Set<Path> inputs() {
+        return conveyorTask.inputs()
+            .stream()
+            .flatMap(input ->
+                switch (input) {
+                    case PathConveyorTaskInput pathInput -> Stream.of(pathInput.path());
+                    case KeyValueConveyorTaskInput ignored -> Stream.<Path>empty();
+                }
+            )
+            .map(this::normalized)
+            .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<Path> outputs() {
+        return conveyorTask.outputs()
+            .stream()
+            .map(output ->
+                switch (output) {
+                    case PathConveyorTaskOutput pathOutput -> pathOutput.path();
+                }
+            )
+            .map(this::normalized)
+            .collect(Collectors.toSet());
+    }
+
     @Override
     public void execute() {
-        tracer.submitTaskExecution(conveyorTask.name());
-        conveyorTask.action()
-            .execute((tracingImportance, supplier) ->
-                tracer.submit(Importance.valueOf(tracingImportance.name()), supplier)
-            );
+        if (conveyorTask.action() instanceof ForkingConveyorTaskAction) {
+            forks.execute(this::executeAction);
+        } else {
+            executeAction();
+        }
     }
 
     @Override
@@ -53,4 +96,16 @@ final class ExecutableTask implements Task {
     public String toString() {
         return "%s:%s".formatted(plugin, conveyorTask.name());
     }
+
+    private void executeAction() {
+        tracer.submitTaskExecution(conveyorTask.name());
+        conveyorTask.action()
+            .execute((tracingImportance, supplier) ->
+                tracer.submit(Importance.valueOf(tracingImportance.name()), supplier)
+            );
+    }
+
+    private Path normalized(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
 }
@@ -6,6 +6,12 @@ import java.nio.file.Path;
 
 final class ExecutableTaskFactory implements TaskFactory {
 
+    private final Permits forks;
+
+    ExecutableTaskFactory(Permits forks) {
+        this.forks = forks;
+    }
+
     @Override
     public Task task(
         Path directory,
@@ -17,6 +23,7 @@ final class ExecutableTaskFactory implements TaskFactory {
         return new ExecutableTask(
             plugin,
             conveyorTask,
+            forks,
             tracer.withContext("plugin", plugin)
                 .withContext("task", conveyorTask.name())
         );
@@ -79,6 +79,13 @@ final class ExtendableLocalInheritanceHierarchyModel
             .collect(new ReducingCollector<>(RepositoryModel::name, RepositoryModel::override));
     }
 
+    public Set<Path> definitions() {
+        return original.models()
+            .stream()
+            .map(LocalSchematicModel::path)
+            .collect(Collectors.toSet());
+    }
+
     @Override
     public Path rootPath() {
         return original.models().getFirst().path();
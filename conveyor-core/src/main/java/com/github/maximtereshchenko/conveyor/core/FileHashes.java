@@ -0,0 +1,176 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import com.github.maximtereshchenko.conveyor.files.FileTree;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+final class FileHashes {
+
+    private static final Duration MODIFICATION_TIME_GRANULARITY = Duration.ofSeconds(2);
+    private static final ThreadLocal<ByteBuffer> BUFFER =
+        ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(64 * 1024));
+
+    private final Path path;
+    private final HashFunction hashFunction;
+    private final Map<Path, FileHash> current = new ConcurrentHashMap<>();
+    private final Map<Path, FileHash> unstable = new ConcurrentHashMap<>();
+    private final LongAdder hashedBytes = new LongAdder();
+    private Map<Path, FileHash> previous;
+    private volatile boolean isModified = false;
+
+    FileHashes(Path path, HashFunction hashFunction) {
+        this.path = path;
+        this.hashFunction = hashFunction;
+    }
+
+    Hash hash(Path file) {
+        try {
+            return recordedOrComputed(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void record(Path file, Hash hash) {
+        try {
+            var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            record(file, new FileHash(metadata(attributes), hash), attributes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    long hashedBytes() {
+        return hashedBytes.sum();
+    }
+
+    void store() {
+        if (!isModified && current.size() == previous().size()) {
+            return;
+        }
+        new FileTree(path).write(
+            Stream.concat(
+                    Stream.of(hashFunction.toString()),
+                    current.entrySet()
+                        .stream()
+                        .map(entry -> entry.getValue().line(entry.getKey()))
+                )
+                .collect(Collectors.joining(System.lineSeparator()))
+        );
+    }
+
+    private Hash recordedOrComputed(Path file) throws IOException {
+        var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        var metadata = metadata(attributes);
+        var hashedDuringExecution = unstable.get(file);
+        if (hashedDuringExecution != null && hashedDuringExecution.metadata().equals(metadata)) {
+            return hashedDuringExecution.hash();
+        }
+        var recorded = previous().get(file);
+        if (recorded != null && recorded.metadata().equals(metadata)) {
+            current.put(file, recorded);
+            return recorded.hash();
+        }
+        var hash = contentHash(file);
+        record(file, new FileHash(metadata, hash), attributes);
+        return hash;
+    }
+
+    private void record(Path file, FileHash fileHash, BasicFileAttributes attributes) {
+        if (isStable(attributes)) {
+            current.put(file, fileHash);
+            unstable.remove(file);
+            isModified = true;
+        } else {
+            unstable.put(file, fileHash);
+        }
+    }
+
+    private Metadata metadata(BasicFileAttributes attributes) {
+        return new Metadata(
+            attributes.size(),
+            attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS),
+            String.valueOf(attributes.fileKey()).replace(' ', '_')
+        );
+    }
+
+    private synchronized Map<Path, FileHash> previous() {
+        if (previous == null) {
+            previous = read();
+        }
+        return previous;
+    }
+
+    private Map<Path, FileHash> read() {
+        var fileTree = new FileTree(path);
+        if (!fileTree.exists()) {
+            return Map.of();
+        }
+        var lines = fileTree.read().lines().toList();
+        if (lines.isEmpty() || !lines.getFirst().equals(hashFunction.toString())) {
+            return Map.of();
+        }
+        return lines.stream()
+            .skip(1)
+            .map(line -> line.split(" ", 5))
+            .collect(
+                Collectors.toMap(
+                    parts -> Paths.get(parts[4]),
+                    parts -> new FileHash(
+                        new Metadata(Long.parseLong(parts[0]), Long.parseLong(parts[1]), parts[2]),
+                        Hash.fromHex(parts[3])
+                    ),
+                    (first, second) -> second
+                )
+            );
+    }
+
+    private boolean isStable(BasicFileAttributes attributes) {
+        return attributes.lastModifiedTime()
+            .toInstant()
+            .isBefore(Instant.now().minus(MODIFICATION_TIME_GRANULARITY));
+    }
+
+    private Hash contentHash(Path file) throws IOException {
+        var messageDigest = hashFunction.messageDigest();
+        var buffer = BUFFER.get();
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer.clear()) != -1) {
+                hashedBytes.add(buffer.flip().remaining());
+                messageDigest.update(buffer);
+            }
+        }
+        return new Hash(messageDigest.digest());
+    }
+
+    private record Metadata(long size, long lastModified, String key) {}
+
+    private record FileHash(Metadata metadata, Hash hash) {
+
+        String line(Path file) {
+            return "%d %d %s %s %s".formatted(
+                metadata.size(),
+                metadata.lastModified(),
+                metadata.key(),
+                hash,
+                file
+            );
+        }
+    }
+}
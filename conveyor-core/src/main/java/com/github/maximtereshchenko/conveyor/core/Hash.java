@@ -0,0 +1,51 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+final class Hash {
+
+    private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+    private final byte[] bytes;
+
+    Hash(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    static Hash fromHex(String hex) {
+        return new Hash(HEX_FORMAT.parseHex(hex));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bytes);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (object == null || getClass() != object.getClass()) {
+            return false;
+        }
+        var that = (Hash) object;
+        return Arrays.equals(bytes, that.bytes);
+    }
+
+    @Override
+    public String toString() {
+        return HEX_FORMAT.formatHex(bytes);
+    }
+
+    byte[] bytes() {
+        return bytes.clone();
+    }
+
+    Path path(Path base) {
+        var hex = toString();
+        return base.resolve(hex.substring(0, 2)).resolve(hex.substring(2));
+    }
+}
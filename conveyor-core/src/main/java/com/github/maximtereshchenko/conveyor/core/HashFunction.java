@@ -0,0 +1,27 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+final class HashFunction {
+
+    private final String algorithm;
+
+    HashFunction(String algorithm) {
+        this.algorithm = algorithm;
+        messageDigest();
+    }
+
+    @Override
+    public String toString() {
+        return algorithm;
+    }
+
+    MessageDigest messageDigest() {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+final class Hasher {
+
+    private final HashFunction hashFunction;
+    private final FileHashes fileHashes;
+    private final List<CompletableFuture<byte[]>> parts = new ArrayList<>();
+
+    Hasher(HashFunction hashFunction, FileHashes fileHashes) {
+        this.hashFunction = hashFunction;
+        this.fileHashes = fileHashes;
+    }
+
+    void update(String string) {
+        update(string.getBytes(StandardCharsets.UTF_8));
+    }
+
+    void update(byte[] bytes) {
+        parts.add(CompletableFuture.completedFuture(bytes));
+    }
+
+    void updateWithContent(Path file) {
+        parts.add(
+            CompletableFuture.supplyAsync(
+                () -> fileHashes.hash(file).bytes(),
+                ForkJoinPool.commonPool()
+            )
+        );
+    }
+
+    Hash hash() {
+        var messageDigest = hashFunction.messageDigest();
+        try {
+            for (var part : parts) {
+                messageDigest.update(part.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+        return new Hash(messageDigest.digest());
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import com.github.maximtereshchenko.conveyor.files.FileTree;
+import com.github.maximtereshchenko.conveyor.files.IOConsumer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+final class HttpRemoteTaskCache implements RemoteTaskCache {
+
+    private final URI base;
+    private final RemoteTaskCacheClient client;
+    private final RemoteTaskCacheUploads uploads;
+    private final Tracer tracer;
+
+    HttpRemoteTaskCache(
+        URI base,
+        RemoteTaskCacheClient client,
+        RemoteTaskCacheUploads uploads,
+        Tracer tracer
+    ) {
+        this.base = base;
+        this.client = client;
+        this.uploads = uploads;
+        this.tracer = tracer;
+    }
+
+    @Override
+    public boolean read(Hash key, IOConsumer<InputStream> consumer) {
+        var uri = uri(key);
+        try {
+            if (!client.get(uri, consumer)) {
+                return false;
+            }
+            tracer.submitRemoteTaskCacheHit(uri);
+            return true;
+        } catch (IOException | UncheckedIOException e) {
+            tracer.submitRemoteTaskCacheFailure(uri, e);
+            return false;
+        }
+    }
+
+    @Override
+    public void write(Hash key, IOConsumer<OutputStream> consumer) {
+        var uri = uri(key);
+        try {
+            var temporary = Files.createTempFile(null, null);
+            try {
+                new FileTree(temporary).write(consumer);
+            } catch (UncheckedIOException e) {
+                Files.deleteIfExists(temporary);
+                throw e;
+            }
+            uploads.submit(() -> upload(uri, temporary));
+        } catch (IOException | UncheckedIOException e) {
+            tracer.submitRemoteTaskCacheFailure(uri, e);
+        }
+    }
+
+    private void upload(URI uri, Path temporary) {
+        try {
+            try {
+                if (client.put(uri, temporary)) {
+                    tracer.submitUploadedTaskOutputs(uri);
+                }
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            tracer.submitRemoteTaskCacheFailure(uri, e);
+        }
+    }
+
+    private URI uri(Hash key) {
+        return URI.create("%s/%s".formatted(base, key));
+    }
+}
@@ -3,13 +3,48 @@ package com.github.maximtereshchenko.conveyor.core;
 import java.nio.file.Path;
 import java.util.stream.Stream;
 
-record Id(String group, String name) {
+final class Id {
+
+    private final String group;
+    private final String name;
+    private final int hashCode;
+
+    Id(String group, String name) {
+        this.group = group;
+        this.name = name;
+        this.hashCode = 31 * group.hashCode() + name.hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (object == null || getClass() != object.getClass()) {
+            return false;
+        }
+        var that = (Id) object;
+        return hashCode == that.hashCode && group.equals(that.group) && name.equals(that.name);
+    }
 
     @Override
     public String toString() {
         return group + ':' + name;
     }
 
+    String group() {
+        return group;
+    }
+
+    String name() {
+        return name;
+    }
+
     Path path(Path base) {
         return Stream.concat(
                 Stream.of(group.split("\\.")),
@@ -4,42 +4,40 @@ import com.github.maximtereshchenko.conveyor.plugin.api.ConveyorTaskInput;
 import com.github.maximtereshchenko.conveyor.plugin.api.KeyValueConveyorTaskInput;
 import com.github.maximtereshchenko.conveyor.plugin.api.PathConveyorTaskInput;
 
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Set;
-import java.util.zip.Checksum;
 
 final class Inputs extends Boundaries<ConveyorTaskInput> {
 
     private final Set<ConveyorTaskInput> all;
-    private boolean isChecksumCached = false;
-    private long checksum = 0;
-
-    Inputs(Set<ConveyorTaskInput> all) {
+    private Hash checksum;
+
+    Inputs(
+        Set<ConveyorTaskInput> all,
+        Path root,
+        HashFunction hashFunction,
+        FileHashes fileHashes
+    ) {
+        super(root, hashFunction, fileHashes);
         this.all = all;
     }
 
     @Override
-    long checksum() {
-        if (isChecksumCached) {
-            return checksum;
+    Hash checksum() {
+        if (checksum == null) {
+            checksum = checksum(all);
         }
-        checksum = checksum(all);
-        isChecksumCached = true;
         return checksum;
     }
 
     @Override
-    void update(Checksum checksum, ConveyorTaskInput element) {
+    void update(Hasher hasher, ConveyorTaskInput element) {
         switch (element) {
-            case PathConveyorTaskInput pathBoundary -> update(checksum, pathBoundary.path());
+            case PathConveyorTaskInput pathBoundary -> update(hasher, pathBoundary.path());
             case KeyValueConveyorTaskInput keyValueInput -> {
-                update(checksum, keyValueInput.key());
-                update(checksum, keyValueInput.value());
+                hasher.update(keyValueInput.key());
+                hasher.update(keyValueInput.value());
             }
         }
     }
-
-    private void update(Checksum checksum, String string) {
-        checksum.update(string.getBytes(StandardCharsets.UTF_8));
-    }
 }
@@ -0,0 +1,31 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class Interner {
+
+    private final Map<Id, Id> ids = new ConcurrentHashMap<>();
+    private final Map<String, Version> versions = new ConcurrentHashMap<>();
+
+    Id id(String group, String name) {
+        var id = new Id(group, name);
+        var existing = ids.putIfAbsent(id, id);
+        if (existing == null) {
+            return id;
+        }
+        return existing;
+    }
+
+    Version version(String raw) {
+        return versions.computeIfAbsent(raw, Version::new);
+    }
+
+    int ids() {
+        return ids.size();
+    }
+
+    int versions() {
+        return versions.size();
+    }
+}
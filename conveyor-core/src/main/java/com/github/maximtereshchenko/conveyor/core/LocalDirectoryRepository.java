@@ -1,7 +1,7 @@
 package com.github.maximtereshchenko.conveyor.core;
 
-import com.github.maximtereshchenko.conveyor.files.FileTree;
-
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -16,11 +16,11 @@ final class LocalDirectoryRepository extends UriRepository<Resource, Path> {
 
     @Override
     void publish(URI uri, Resource resource) {
-        var fileTree = new FileTree(Paths.get(uri));
-        if (fileTree.exists()) {
-            return;
+        try {
+            publish(Paths.get(uri), resource);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        resource.transferTo(fileTree);
     }
 
     @Override
@@ -31,4 +31,16 @@ final class LocalDirectoryRepository extends UriRepository<Resource, Path> {
         }
         return Optional.empty();
     }
+
+    private void publish(Path path, Resource resource) throws IOException {
+        try {
+            if (Files.exists(path)) {
+                return;
+            }
+            Files.createDirectories(path.getParent());
+            resource.moveTo(path);
+        } finally {
+            resource.discard();
+        }
+    }
 }
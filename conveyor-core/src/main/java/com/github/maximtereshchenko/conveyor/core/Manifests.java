@@ -0,0 +1,67 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import com.github.maximtereshchenko.conveyor.files.FileTree;
+import com.github.maximtereshchenko.conveyor.files.Generic;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+
+final class Manifests {
+
+    private final Path directory;
+
+    Manifests(Path directory) {
+        this.directory = directory;
+    }
+
+    void evict(Blobs blobs, Instant start, Tracer tracer) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        var manifests = new ArrayList<Path>();
+        new FileTree(directory).walk(
+            new Generic(file -> {
+                if (directory.relativize(file).getNameCount() == 2) {
+                    manifests.add(file);
+                }
+            })
+        );
+        var evicted = 0;
+        for (var manifest : manifests) {
+            if (isEvictable(manifest, blobs, FileTime.from(start))) {
+                new FileTree(manifest).delete();
+                evicted++;
+            }
+        }
+        if (evicted == manifests.size()) {
+            new FileTree(directory.resolve("files")).delete();
+        }
+        if (evicted > 0) {
+            tracer.submitEvictedManifests(directory, evicted);
+        }
+    }
+
+    private boolean isEvictable(Path manifest, Blobs blobs, FileTime start) {
+        try {
+            if (manifest.getFileName().toString().endsWith(".tmp")) {
+                return Files.getLastModifiedTime(manifest).compareTo(start) < 0;
+            }
+            return !new FileTree(manifest).read()
+                .lines()
+                .map(line -> line.split(" ", 3))
+                .allMatch(parts ->
+                    parts.length == 3 &&
+                    blobs.isIntact(Hash.fromHex(parts[0]), Long.parseLong(parts[1]))
+                );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (IllegalArgumentException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import com.github.maximtereshchenko.conveyor.files.FileTree;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+final class Misses {
+
+    private final Path path;
+    private Map<URI, Instant> expirations;
+
+    Misses(Path path) {
+        this.path = path;
+    }
+
+    boolean contains(URI uri) {
+        var expiration = expirations().get(uri);
+        return expiration != null && expiration.isAfter(Instant.now());
+    }
+
+    synchronized void add(URI uri, Instant expiration) {
+        expirations().put(uri, expiration);
+        try {
+            Files.createDirectories(path.getParent());
+            Files.writeString(
+                path,
+                line(uri, expiration) + System.lineSeparator(),
+                StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private synchronized Map<URI, Instant> expirations() {
+        if (expirations == null) {
+            expirations = read();
+        }
+        return expirations;
+    }
+
+    private Map<URI, Instant> read() {
+        var fileTree = new FileTree(path);
+        var expirations = new ConcurrentHashMap<URI, Instant>();
+        if (!fileTree.exists()) {
+            return expirations;
+        }
+        var lines = fileTree.read().lines().toList();
+        var now = Instant.now();
+        for (var line : lines) {
+            var parts = line.split(" ", 2);
+            var expiration = Instant.ofEpochMilli(Long.parseLong(parts[0]));
+            if (expiration.isAfter(now)) {
+                expirations.put(URI.create(parts[1]), expiration);
+            }
+        }
+        if (expirations.size() != lines.size()) {
+            fileTree.write(
+                expirations.entrySet()
+                    .stream()
+                    .map(entry -> line(entry.getKey(), entry.getValue()) + System.lineSeparator())
+                    .collect(Collectors.joining())
+            );
+        }
+        return expirations;
+    }
+
+    private String line(URI uri, Instant expiration) {
+        return "%d %s".formatted(expiration.toEpochMilli(), uri);
+    }
+}
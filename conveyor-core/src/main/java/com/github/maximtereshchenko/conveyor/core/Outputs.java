@@ -7,25 +7,30 @@ import com.github.maximtereshchenko.conveyor.plugin.api.PathConveyorTaskOutput;
 import java.nio.file.Path;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.zip.Checksum;
 
 final class Outputs extends Boundaries<ConveyorTaskOutput> {
 
     private final Set<ConveyorTaskOutput> all;
 
-    Outputs(Set<ConveyorTaskOutput> all) {
+    Outputs(
+        Set<ConveyorTaskOutput> all,
+        Path root,
+        HashFunction hashFunction,
+        FileHashes fileHashes
+    ) {
+        super(root, hashFunction, fileHashes);
         this.all = all;
     }
 
     @Override
-    long checksum() {
+    Hash checksum() {
         return checksum(all);
     }
 
     @Override
-    void update(Checksum checksum, ConveyorTaskOutput element) {
+    void update(Hasher hasher, ConveyorTaskOutput element) {
         switch (element) {
-            case PathConveyorTaskOutput pathOutput -> update(checksum, pathOutput.path());
+            case PathConveyorTaskOutput pathOutput -> update(hasher, pathOutput.path());
         }
     }
 
@@ -0,0 +1,101 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class Permits {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(
+        Comparator.comparingLong(Waiter::priority)
+            .reversed()
+            .thenComparingLong(Waiter::sequence)
+    );
+    private int available;
+    private long sequence = 0;
+
+    Permits(int count) {
+        this.available = count;
+    }
+
+    void execute(Runnable runnable) {
+        execute(0, runnable);
+    }
+
+    void execute(long priority, Runnable runnable) {
+        acquire(priority);
+        try {
+            runnable.run();
+        } finally {
+            release();
+        }
+    }
+
+    void acquire() {
+        acquire(0);
+    }
+
+    void release() {
+        lock.lock();
+        try {
+            var waiter = waiters.poll();
+            if (waiter == null) {
+                available++;
+            } else {
+                waiter.grant();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acquire(long priority) {
+        lock.lock();
+        try {
+            if (available > 0 && waiters.isEmpty()) {
+                available--;
+                return;
+            }
+            var waiter = new Waiter(priority, sequence++, lock.newCondition());
+            waiters.add(waiter);
+            waiter.await();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Waiter {
+
+        private final long priority;
+        private final long sequence;
+        private final Condition condition;
+        private boolean isGranted = false;
+
+        Waiter(long priority, long sequence, Condition condition) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.condition = condition;
+        }
+
+        long priority() {
+            return priority;
+        }
+
+        long sequence() {
+            return sequence;
+        }
+
+        void await() {
+            while (!isGranted) {
+                condition.awaitUninterruptibly();
+            }
+        }
+
+        void grant() {
+            isGranted = true;
+            condition.signal();
+        }
+    }
+}
@@ -43,6 +43,11 @@ final class Plugin implements Artifact {
         return directlyReferencedArtifact.dependencies();
     }
 
+    @Override
+    public Set<Id> exclusions() {
+        return directlyReferencedArtifact.exclusions();
+    }
+
     @Override
     public String toString() {
         return "%s:%s".formatted(
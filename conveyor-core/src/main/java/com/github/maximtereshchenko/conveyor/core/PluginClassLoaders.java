@@ -0,0 +1,37 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class PluginClassLoaders {
+
+    private final Map<List<Path>, ClassLoader> classLoaders = new ConcurrentHashMap<>();
+
+    ClassLoader classLoader(Set<Path> paths) {
+        return classLoaders.computeIfAbsent(List.copyOf(paths), this::newClassLoader);
+    }
+
+    private ClassLoader newClassLoader(List<Path> paths) {
+        return URLClassLoader.newInstance(
+            paths.stream()
+                .map(this::url)
+                .toArray(URL[]::new),
+            getClass().getClassLoader()
+        );
+    }
+
+    private URL url(Path path) {
+        try {
+            return path.toUri().toURL();
+        } catch (MalformedURLException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -3,31 +3,28 @@ package com.github.maximtereshchenko.conveyor.core;
 import com.github.maximtereshchenko.conveyor.plugin.api.ConveyorPlugin;
 import com.github.maximtereshchenko.conveyor.plugin.api.ConveyorSchematic;
 
-import java.io.UncheckedIOException;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLClassLoader;
-import java.nio.file.Path;
 import java.util.LinkedHashSet;
 import java.util.ServiceLoader;
-import java.util.Set;
 import java.util.stream.Stream;
 
 final class Plugins {
 
     private final LinkedHashSet<Plugin> all;
     private final ClasspathFactory classpathFactory;
+    private final PluginClassLoaders pluginClassLoaders;
     private final TaskFactory taskFactory;
     private final Tracer tracer;
 
     Plugins(
         LinkedHashSet<Plugin> all,
         ClasspathFactory classpathFactory,
+        PluginClassLoaders pluginClassLoaders,
         TaskFactory taskFactory,
         Tracer tracer
     ) {
         this.all = all;
         this.classpathFactory = classpathFactory;
+        this.pluginClassLoaders = pluginClassLoaders;
         this.taskFactory = taskFactory;
         this.tracer = tracer;
     }
@@ -84,7 +81,7 @@ final class Plugins {
     private Stream<ConveyorPlugin> conveyorPlugins() {
         return ServiceLoader.load(
                 ConveyorPlugin.class,
-                classLoader(classpathFactory.classpath(all))
+                pluginClassLoaders.classLoader(classpathFactory.classpath(all))
             )
             .stream()
             .map(ServiceLoader.Provider::get);
@@ -96,21 +93,4 @@ final class Plugins {
             .findAny()
             .orElseThrow();
     }
-
-    private ClassLoader classLoader(Set<Path> paths) {
-        return URLClassLoader.newInstance(
-            paths.stream()
-                .map(this::url)
-                .toArray(URL[]::new),
-            getClass().getClassLoader()
-        );
-    }
-
-    private URL url(Path path) {
-        try {
-            return path.toUri().toURL();
-        } catch (MalformedURLException e) {
-            throw new UncheckedIOException(e);
-        }
-    }
 }
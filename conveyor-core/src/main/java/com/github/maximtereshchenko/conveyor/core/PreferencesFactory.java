@@ -3,12 +3,14 @@ package com.github.maximtereshchenko.conveyor.core;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 final class PreferencesFactory {
 
     private final SchematicModelFactory schematicModelFactory;
+    private final Map<Key, Map<Id, Version>> imported = new ConcurrentHashMap<>();
 
     PreferencesFactory(SchematicModelFactory schematicModelFactory) {
         this.schematicModelFactory = schematicModelFactory;
@@ -45,18 +47,12 @@ final class PreferencesFactory {
     ) {
         return inclusions.stream()
             .map(preferencesInclusionModel ->
-                schematicModelFactory.inheritanceHierarchyModel(
-                    preferencesInclusionModel.idModel().id(properties),
-                    new Version(
-                        properties.interpolated(preferencesInclusionModel.version())
+                importedPreferences(
+                    new Key(
+                        preferencesInclusionModel.idModel().id(properties),
+                        properties.version(preferencesInclusionModel.version())
                     ),
-                    repositories
-                )
-            )
-            .map(inheritanceHierarchyModel ->
-                versions(
-                    inheritanceHierarchyModel.preferences(),
-                    new Properties(inheritanceHierarchyModel.properties()),
+                    properties,
                     repositories
                 )
             )
@@ -71,6 +67,31 @@ final class PreferencesFactory {
             );
     }
 
+    private Map<Id, Version> importedPreferences(
+        Key key,
+        Properties properties,
+        Repositories repositories
+    ) {
+        var cached = imported.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        var inheritanceHierarchyModel = schematicModelFactory.inheritanceHierarchyModel(
+            key.id(),
+            key.version(),
+            repositories
+        );
+        var versions = Map.copyOf(
+            versions(
+                inheritanceHierarchyModel.preferences(),
+                properties.withModel(inheritanceHierarchyModel.properties()),
+                repositories
+            )
+        );
+        imported.put(key, versions);
+        return versions;
+    }
+
     private Version highestVersion(
         Version first,
         Version second
@@ -89,10 +110,12 @@ final class PreferencesFactory {
             .collect(
                 Collectors.toMap(
                     artifactPreferenceModel -> artifactPreferenceModel.idModel().id(properties),
-                    artifactPreferenceModel -> new Version(
-                        properties.interpolated(artifactPreferenceModel.version())
+                    artifactPreferenceModel -> properties.version(
+                        artifactPreferenceModel.version()
                     )
                 )
             );
     }
+
+    private record Key(Id id, Version version) {}
 }
@@ -1,17 +1,37 @@
 package com.github.maximtereshchenko.conveyor.core;
 
+import java.net.URI;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
 final class Properties {
 
     private static final Pattern INTERPOLATION_PATTERN = Pattern.compile("\\$\\{([^}]+)}");
+    private static final Pattern SIZE_PATTERN = Pattern.compile("(\\d+)([KMG]?B?)");
+    private static final Pattern DURATION_PATTERN = Pattern.compile("(\\d+)(MS|S|M|H)?");
 
     private final PropertiesModel propertiesModel;
+    private final Interner interner;
 
-    Properties(PropertiesModel propertiesModel) {
+    Properties(PropertiesModel propertiesModel, Interner interner) {
         this.propertiesModel = propertiesModel;
+        this.interner = interner;
+    }
+
+    Properties withModel(PropertiesModel propertiesModel) {
+        return new Properties(propertiesModel, interner);
+    }
+
+    Id id(String group, String name) {
+        return interner.id(interpolated(group), name);
+    }
+
+    Version version(String value) {
+        return interner.version(interpolated(value));
     }
 
     String interpolated(String value) {
@@ -34,12 +54,90 @@ final class Properties {
         return propertiesModel.path(SchematicPropertyKey.REMOTE_REPOSITORY_CACHE_DIRECTORY);
     }
 
+    Duration remoteRepositoryConnectTimeout() {
+        return value(SchematicPropertyKey.REMOTE_REPOSITORY_CONNECT_TIMEOUT.fullName())
+            .map(this::duration)
+            .orElse(Duration.ofSeconds(10));
+    }
+
+    Duration remoteRepositoryRequestTimeout() {
+        return value(SchematicPropertyKey.REMOTE_REPOSITORY_REQUEST_TIMEOUT.fullName())
+            .map(this::duration)
+            .orElse(Duration.ofSeconds(60));
+    }
+
+    int remoteRepositoryRetries() {
+        return value(SchematicPropertyKey.REMOTE_REPOSITORY_RETRIES.fullName())
+            .map(Integer::parseInt)
+            .orElse(3);
+    }
+
+    Duration remoteRepositoryMissTimeToLive() {
+        return value(SchematicPropertyKey.REMOTE_REPOSITORY_MISS_TIME_TO_LIVE.fullName())
+            .map(this::duration)
+            .orElse(Duration.ofHours(24));
+    }
+
     Path tasksCacheDirectory() {
         return propertiesModel.path(SchematicPropertyKey.TASKS_CACHE_DIRECTORY);
     }
 
+    Path tasksCacheBlobsDirectory() {
+        return propertiesModel.path(SchematicPropertyKey.TASKS_CACHE_BLOBS_DIRECTORY);
+    }
+
+    String tasksCacheHashAlgorithm() {
+        return value(SchematicPropertyKey.TASKS_CACHE_HASH_ALGORITHM.fullName())
+            .orElse("SHA-256");
+    }
+
+    long tasksCacheMaximumSize() {
+        return value(SchematicPropertyKey.TASKS_CACHE_MAXIMUM_SIZE.fullName())
+            .map(this::bytes)
+            .orElse(10L * 1024 * 1024 * 1024);
+    }
+
+    boolean tasksCacheLinks() {
+        return value(SchematicPropertyKey.TASKS_CACHE_LINKS.fullName())
+            .map(Boolean::parseBoolean)
+            .orElse(Boolean.TRUE);
+    }
+
+    Optional<URI> tasksCacheRemoteUri() {
+        return value(SchematicPropertyKey.TASKS_CACHE_REMOTE_URI.fullName())
+            .map(URI::create);
+    }
+
     Optional<String> value(String key) {
         return propertiesModel.value(key)
             .map(this::interpolated);
     }
+
+    private long bytes(String size) {
+        var matcher = SIZE_PATTERN.matcher(size.strip().toUpperCase(Locale.ROOT));
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid size " + size);
+        }
+        var multiplier = switch (matcher.group(2)) {
+            case "K", "KB" -> 1024L;
+            case "M", "MB" -> 1024L * 1024;
+            case "G", "GB" -> 1024L * 1024 * 1024;
+            default -> 1L;
+        };
+        return Long.parseLong(matcher.group(1)) * multiplier;
+    }
+
+    private Duration duration(String duration) {
+        var matcher = DURATION_PATTERN.matcher(duration.strip().toUpperCase(Locale.ROOT));
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid duration " + duration);
+        }
+        var amount = Long.parseLong(matcher.group(1));
+        return switch (Objects.requireNonNullElse(matcher.group(2), "S")) {
+            case "MS" -> Duration.ofMillis(amount);
+            case "M" -> Duration.ofMinutes(amount);
+            case "H" -> Duration.ofHours(amount);
+            default -> Duration.ofSeconds(amount);
+        };
+    }
 }
@@ -7,16 +7,50 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 final class RemoteMavenRepository extends UriRepository<Path, Resource> {
 
+    private static final Duration INITIAL_BACKOFF = Duration.ofMillis(100);
+    private static final Duration MAXIMUM_BACKOFF = Duration.ofSeconds(5);
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final int retries;
+    private final Misses misses;
+    private final Duration missTimeToLive;
+    private final Permits downloads;
+    private final Path stagingDirectory;
     private final Tracer tracer;
-    private final HttpClient httpClient = HttpClient.newHttpClient();
 
-    RemoteMavenRepository(URI baseUri, Tracer tracer) {
+    RemoteMavenRepository(
+        URI baseUri,
+        HttpClient httpClient,
+        Duration requestTimeout,
+        int retries,
+        Misses misses,
+        Duration missTimeToLive,
+        Permits downloads,
+        Path stagingDirectory,
+        Tracer tracer
+    ) {
         super(baseUri);
+        this.httpClient = httpClient;
+        this.requestTimeout = requestTimeout;
+        this.retries = retries;
+        this.misses = misses;
+        this.missTimeToLive = missTimeToLive;
+        this.downloads = downloads;
+        this.stagingDirectory = stagingDirectory;
         this.tracer = tracer;
     }
 
@@ -27,28 +61,191 @@ final class RemoteMavenRepository extends UriRepository<Path, Resource> {
 
     @Override
     Optional<Resource> artifact(URI uri) {
-        var response = getResponse(uri);
-        if (response.statusCode() != 200) {
+        if (misses.contains(uri)) {
             return Optional.empty();
         }
-        tracer.submitDownloadedArtifact(uri);
-        return Optional.of(new Resource(response::body));
+        var attempt = 1;
+        while (true) {
+            downloads.acquire();
+            try {
+                var response = send(uri, HttpResponse.BodyHandlers.ofInputStream());
+                if (response.statusCode() == 200) {
+                    var temporary = download(uri, response);
+                    tracer.submitDownloadedArtifact(uri);
+                    return Optional.of(Resource.staged(temporary));
+                }
+                response.body().close();
+                if (response.statusCode() == 404) {
+                    misses.add(uri, Instant.now().plus(missTimeToLive));
+                }
+                if (response.statusCode() / 100 != 5 || attempt > retries) {
+                    return Optional.empty();
+                }
+            } catch (IOException e) {
+                if (attempt > retries) {
+                    throw new UncheckedIOException(e);
+                }
+            } finally {
+                downloads.release();
+            }
+            tracer.submitDownloadRetry(uri, attempt);
+            backoff(attempt++);
+        }
     }
 
-    private HttpResponse<InputStream> getResponse(URI uri) {
+    private Path download(URI uri, HttpResponse<InputStream> response) throws IOException {
+        Files.createDirectories(stagingDirectory);
+        var temporary = Files.createTempFile(stagingDirectory, null, null);
+        try {
+            var messageDigests = new EnumMap<Algorithm, MessageDigest>(Algorithm.class);
+            long length;
+            try (
+                var inputStream = digested(response.body(), messageDigests);
+                var outputStream = Files.newOutputStream(temporary)
+            ) {
+                length = inputStream.transferTo(outputStream);
+            }
+            verify(uri, response, length, messageDigests);
+            return temporary;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+    }
+
+    private InputStream digested(
+        InputStream inputStream,
+        Map<Algorithm, MessageDigest> messageDigests
+    ) {
+        var digested = inputStream;
+        for (var algorithm : Algorithm.values()) {
+            var messageDigest = algorithm.messageDigest();
+            messageDigests.put(algorithm, messageDigest);
+            digested = new DigestInputStream(digested, messageDigest);
+        }
+        return digested;
+    }
+
+    private void verify(
+        URI uri,
+        HttpResponse<InputStream> response,
+        long length,
+        Map<Algorithm, MessageDigest> messageDigests
+    ) throws IOException {
+        var expectedLength = response.headers().firstValueAsLong("Content-Length");
+        if (expectedLength.isPresent() && expectedLength.getAsLong() != length) {
+            throw new IOException(
+                "Download of %s is truncated: expected %d bytes, received %d".formatted(
+                    uri,
+                    expectedLength.getAsLong(),
+                    length
+                )
+            );
+        }
+        var expected = checksum(uri, response);
+        if (expected.isEmpty()) {
+            return;
+        }
+        var actual = new Hash(messageDigests.get(expected.get().algorithm()).digest());
+        if (!actual.toString().equalsIgnoreCase(expected.get().hex())) {
+            throw new IOException(
+                "Checksum of %s does not match: expected %s, actual %s".formatted(
+                    uri,
+                    expected.get().hex(),
+                    actual
+                )
+            );
+        }
+    }
+
+    private <T> HttpResponse<T> send(URI uri, HttpResponse.BodyHandler<T> bodyHandler)
+        throws IOException {
         try {
             return httpClient.send(
                 HttpRequest.newBuilder()
                     .GET()
                     .uri(uri)
+                    .timeout(requestTimeout)
                     .build(),
-                HttpResponse.BodyHandlers.ofInputStream()
+                bodyHandler
             );
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new IllegalStateException(e);
+        }
+    }
+
+    private Optional<Checksum> checksum(URI uri, HttpResponse<InputStream> response) {
+        return Stream.of(Algorithm.values())
+            .flatMap(algorithm ->
+                response.headers()
+                    .firstValue(algorithm.header())
+                    .map(value -> new Checksum(algorithm, value))
+                    .stream()
+            )
+            .findFirst()
+            .or(() -> sidecar(uri, Algorithm.SHA_256))
+            .or(() -> sidecar(uri, Algorithm.SHA_1));
+    }
+
+    private Optional<Checksum> sidecar(URI uri, Algorithm algorithm) {
+        var sidecar = URI.create(uri + algorithm.extension());
+        if (misses.contains(sidecar)) {
+            return Optional.empty();
+        }
+        try {
+            var response = send(sidecar, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 404) {
+                misses.add(sidecar, Instant.now().plus(missTimeToLive));
+            }
+            if (response.statusCode() != 200 || response.body().isBlank()) {
+                return Optional.empty();
+            }
+            return Optional.of(
+                new Checksum(algorithm, response.body().strip().split("\\s+")[0])
+            );
         } catch (IOException e) {
-            throw new UncheckedIOException(e);
+            return Optional.empty();
+        }
+    }
+
+    private void backoff(int attempt) {
+        try {
+            var backoff = INITIAL_BACKOFF.multipliedBy(1L << Math.min(attempt - 1, 16));
+            Thread.sleep(backoff.compareTo(MAXIMUM_BACKOFF) < 0 ? backoff : MAXIMUM_BACKOFF);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
         }
     }
+
+    private enum Algorithm {
+
+        SHA_256("SHA-256", ".sha256", "X-Checksum-Sha256"),
+        SHA_1("SHA-1", ".sha1", "X-Checksum-Sha1");
+
+        private final String name;
+        private final String extension;
+        private final String header;
+
+        Algorithm(String name, String extension, String header) {
+            this.name = name;
+            this.extension = extension;
+            this.header = header;
+        }
+
+        String extension() {
+            return extension;
+        }
+
+        String header() {
+            return header;
+        }
+
+        MessageDigest messageDigest() {
+            return new HashFunction(name).messageDigest();
+        }
+    }
+
+    private record Checksum(Algorithm algorithm, String hex) {}
 }
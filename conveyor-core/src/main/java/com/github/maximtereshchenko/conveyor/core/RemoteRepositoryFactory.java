@@ -0,0 +1,87 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import com.github.maximtereshchenko.conveyor.api.port.SchematicDefinitionConverter;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class RemoteRepositoryFactory {
+
+    private final PomDefinitionFactory pomDefinitionFactory;
+    private final SchematicDefinitionConverter schematicDefinitionConverter;
+    private final Permits downloads;
+    private final Map<URI, SingleFlight<URI, Optional<Path>>> singleFlights =
+        new ConcurrentHashMap<>();
+    private final Map<ClientKey, HttpClient> httpClients = new ConcurrentHashMap<>();
+    private final Map<Path, Misses> misses = new ConcurrentHashMap<>();
+
+    RemoteRepositoryFactory(
+        PomDefinitionFactory pomDefinitionFactory,
+        SchematicDefinitionConverter schematicDefinitionConverter,
+        Permits downloads
+    ) {
+        this.pomDefinitionFactory = pomDefinitionFactory;
+        this.schematicDefinitionConverter = schematicDefinitionConverter;
+        this.downloads = downloads;
+    }
+
+    Repository<Path, Path> remoteRepository(
+        RemoteRepositoryModel remoteRepositoryModel,
+        Path cacheDirectory,
+        Properties properties,
+        Tracer tracer
+    ) {
+        var cache = new LocalDirectoryRepository(cacheDirectory);
+        var singleFlight = singleFlights.computeIfAbsent(
+            remoteRepositoryModel.uri(),
+            uri -> new SingleFlight<>()
+        );
+        return new CachingRepository(
+            new MavenRepositoryAdapter(
+                new CachingRepository(
+                    new RemoteMavenRepository(
+                        remoteRepositoryModel.uri(),
+                        httpClient(
+                            remoteRepositoryModel.uri(),
+                            properties.remoteRepositoryConnectTimeout()
+                        ),
+                        properties.remoteRepositoryRequestTimeout(),
+                        properties.remoteRepositoryRetries(),
+                        misses.computeIfAbsent(
+                            cacheDirectory.resolve(".misses"),
+                            Misses::new
+                        ),
+                        properties.remoteRepositoryMissTimeToLive(),
+                        downloads,
+                        cacheDirectory,
+                        tracer.withContext("repository", remoteRepositoryModel.name())
+                    ),
+                    cache,
+                    singleFlight
+                ),
+                pomDefinitionFactory,
+                schematicDefinitionConverter
+            ),
+            cache,
+            singleFlight
+        );
+    }
+
+    private HttpClient httpClient(URI uri, Duration connectTimeout) {
+        return httpClients.computeIfAbsent(
+            new ClientKey(uri, connectTimeout),
+            key -> HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(connectTimeout)
+                .build()
+        );
+    }
+
+    private record ClientKey(URI uri, Duration connectTimeout) {}
+}
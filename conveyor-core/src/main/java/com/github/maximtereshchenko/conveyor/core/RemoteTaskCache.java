@@ -0,0 +1,13 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import com.github.maximtereshchenko.conveyor.files.IOConsumer;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+interface RemoteTaskCache {
+
+    boolean read(Hash key, IOConsumer<InputStream> consumer);
+
+    void write(Hash key, IOConsumer<OutputStream> consumer);
+}
@@ -0,0 +1,79 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import com.github.maximtereshchenko.conveyor.files.IOConsumer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+
+final class RemoteTaskCacheClient {
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final Permits downloads;
+
+    RemoteTaskCacheClient(Duration connectTimeout, Duration requestTimeout, Permits downloads) {
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(connectTimeout)
+            .build();
+        this.requestTimeout = requestTimeout;
+        this.downloads = downloads;
+    }
+
+    boolean get(URI uri, IOConsumer<InputStream> consumer) throws IOException {
+        return bounded(() -> {
+            var response = httpClient.send(
+                HttpRequest.newBuilder()
+                    .GET()
+                    .uri(uri)
+                    .timeout(requestTimeout)
+                    .build(),
+                HttpResponse.BodyHandlers.ofInputStream()
+            );
+            try (var inputStream = response.body()) {
+                if (response.statusCode() != 200) {
+                    return false;
+                }
+                consumer.accept(inputStream);
+                return true;
+            }
+        });
+    }
+
+    boolean put(URI uri, Path file) throws IOException {
+        return bounded(() -> {
+            var response = httpClient.send(
+                HttpRequest.newBuilder()
+                    .PUT(HttpRequest.BodyPublishers.ofFile(file))
+                    .uri(uri)
+                    .timeout(requestTimeout)
+                    .build(),
+                HttpResponse.BodyHandlers.discarding()
+            );
+            return response.statusCode() / 100 == 2;
+        });
+    }
+
+    private boolean bounded(Request request) throws IOException {
+        downloads.acquire();
+        try {
+            return request.send();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            downloads.release();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Request {
+
+        boolean send() throws IOException, InterruptedException;
+    }
+}
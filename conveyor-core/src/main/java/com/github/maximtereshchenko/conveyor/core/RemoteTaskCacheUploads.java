@@ -0,0 +1,26 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+final class RemoteTaskCacheUploads {
+
+    private final Set<CompletableFuture<Void>> pending = ConcurrentHashMap.newKeySet();
+    private final Executor executor;
+
+    RemoteTaskCacheUploads(Executor executor) {
+        this.executor = executor;
+    }
+
+    void submit(Runnable upload) {
+        var future = CompletableFuture.runAsync(upload, executor);
+        pending.add(future);
+        future.whenComplete((result, throwable) -> pending.remove(future));
+    }
+
+    void await() {
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+    }
+}
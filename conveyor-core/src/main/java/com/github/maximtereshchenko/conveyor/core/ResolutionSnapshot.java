@@ -0,0 +1,206 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import com.github.maximtereshchenko.conveyor.files.FileTree;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+final class ResolutionSnapshot {
+
+    private final Path path;
+    private final Hash key;
+    private final Map<Set<Root>, Set<Entry>> current = new ConcurrentHashMap<>();
+    private final Map<Path, Entry> definitions = new ConcurrentHashMap<>();
+    private Snapshot previous;
+
+    private ResolutionSnapshot(Path path, Hash key) {
+        this.path = path;
+        this.key = key;
+    }
+
+    static ResolutionSnapshot from(Path path, Collection<Path> definitions) {
+        var messageDigest = new HashFunction("SHA-256").messageDigest();
+        try {
+            for (var definition : new TreeSet<>(definitions)) {
+                messageDigest.update(definition.toString().getBytes(StandardCharsets.UTF_8));
+                messageDigest.update(Files.readAllBytes(definition));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ResolutionSnapshot(path, new Hash(messageDigest.digest()));
+    }
+
+    Optional<Set<Path>> classpath(Set<Root> roots) {
+        var entries = previous().classpaths().get(roots);
+        if (entries == null || !entries.stream().allMatch(Entry::isUnchanged)) {
+            return Optional.empty();
+        }
+        current.put(roots, entries);
+        return Optional.of(
+            entries.stream()
+                .map(Entry::path)
+                .collect(Collectors.toSet())
+        );
+    }
+
+    void record(Set<Root> roots, Set<Path> classpath) {
+        current.put(
+            roots,
+            classpath.stream()
+                .map(Entry::from)
+                .collect(Collectors.toSet())
+        );
+    }
+
+    void definition(Path path) {
+        if (Files.exists(path)) {
+            definitions.put(path, Entry.from(path));
+        }
+    }
+
+    void store() {
+        if (current.isEmpty()) {
+            return;
+        }
+        var allClasspaths = new HashMap<>(previous().classpaths());
+        allClasspaths.putAll(current);
+        var allDefinitions = new HashMap<Path, Entry>();
+        for (var definition : previous().definitions()) {
+            allDefinitions.put(definition.path(), definition);
+        }
+        allDefinitions.putAll(definitions);
+        new FileTree(path).write(
+            Stream.of(
+                    Stream.of(key.toString()),
+                    allDefinitions.values()
+                        .stream()
+                        .map(definition -> definition.line("definition")),
+                    allClasspaths.entrySet()
+                        .stream()
+                        .flatMap(entry -> lines(entry.getKey(), entry.getValue()))
+                )
+                .flatMap(Function.identity())
+                .collect(Collectors.joining(System.lineSeparator()))
+        );
+    }
+
+    private Stream<String> lines(Set<Root> roots, Set<Entry> entries) {
+        return Stream.concat(
+            Stream.concat(Stream.of("classpath"), roots.stream().map(Root::line)),
+            entries.stream().map(entry -> entry.line("entry"))
+        );
+    }
+
+    private synchronized Snapshot previous() {
+        if (previous == null) {
+            previous = read()
+                .filter(snapshot ->
+                    snapshot.definitions()
+                        .stream()
+                        .allMatch(Entry::isUnchanged)
+                )
+                .orElseGet(() -> new Snapshot(Map.of(), Set.of()));
+        }
+        return previous;
+    }
+
+    private Optional<Snapshot> read() {
+        var fileTree = new FileTree(path);
+        if (!fileTree.exists()) {
+            return Optional.empty();
+        }
+        var lines = fileTree.read().lines().toList();
+        if (lines.isEmpty() || !lines.getFirst().equals(key.toString())) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(snapshot(lines.subList(1, lines.size())));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Snapshot snapshot(List<String> lines) {
+        var classpaths = new HashMap<Set<Root>, Set<Entry>>();
+        var definitions = new HashSet<Entry>();
+        var roots = new HashSet<Root>();
+        var entries = new HashSet<Entry>();
+        for (var line : lines) {
+            var parts = line.split(" ", 4);
+            switch (parts[0]) {
+                case "definition" -> definitions.add(Entry.from(parts));
+                case "classpath" -> {
+                    if (!roots.isEmpty()) {
+                        classpaths.put(roots, entries);
+                    }
+                    roots = new HashSet<>();
+                    entries = new HashSet<>();
+                }
+                case "root" -> roots.add(new Root(parts[1], parts[2], Paths.get(parts[3])));
+                case "entry" -> entries.add(Entry.from(parts));
+                default -> throw new IllegalArgumentException(line);
+            }
+        }
+        if (!roots.isEmpty()) {
+            classpaths.put(roots, entries);
+        }
+        return new Snapshot(classpaths, definitions);
+    }
+
+    record Root(String id, String version, Path path) {
+
+        String line() {
+            return "root %s %s %s".formatted(id, version, path);
+        }
+    }
+
+    private record Entry(Path path, long size, long lastModified) {
+
+        static Entry from(String[] parts) {
+            return new Entry(
+                Paths.get(parts[3]),
+                Long.parseLong(parts[1]),
+                Long.parseLong(parts[2])
+            );
+        }
+
+        static Entry from(Path path) {
+            var attributes = attributes(path);
+            return new Entry(
+                path,
+                attributes.size(),
+                attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS)
+            );
+        }
+
+        private static BasicFileAttributes attributes(Path path) {
+            try {
+                return Files.readAttributes(path, BasicFileAttributes.class);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        boolean isUnchanged() {
+            return Files.exists(path) && equals(from(path));
+        }
+
+        String line(String kind) {
+            return "%s %d %d %s".formatted(kind, size, lastModified, path);
+        }
+    }
+
+    private record Snapshot(Map<Set<Root>, Set<Entry>> classpaths, Set<Entry> definitions) {}
+}
@@ -3,22 +3,35 @@ package com.github.maximtereshchenko.conveyor.core;
 import com.github.maximtereshchenko.conveyor.files.FileTree;
 import com.github.maximtereshchenko.conveyor.files.IOSupplier;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
 
 final class Resource {
 
     private final IOSupplier<InputStream> supplier;
+    private final Optional<Path> staged;
 
-    Resource(IOSupplier<InputStream> supplier) {
+    private Resource(IOSupplier<InputStream> supplier, Optional<Path> staged) {
         this.supplier = supplier;
+        this.staged = staged;
+    }
+
+    Resource(IOSupplier<InputStream> supplier) {
+        this(supplier, Optional.empty());
     }
 
     Resource(Path path) {
         this(() -> Files.newInputStream(path));
     }
 
+    static Resource staged(Path file) {
+        return new Resource(() -> Files.newInputStream(file), Optional.of(file));
+    }
+
     void transferTo(FileTree fileTree) {
         fileTree.write(outputStream -> {
             try (var inputStream = supplier.get()) {
@@ -26,4 +39,33 @@ final class Resource {
             }
         });
     }
+
+    void moveTo(Path path) throws IOException {
+        if (staged.isPresent()) {
+            move(staged.get(), path);
+            return;
+        }
+        var temporary = Files.createTempFile(path.getParent(), path.getFileName().toString(), null);
+        try {
+            transferTo(new FileTree(temporary));
+            move(temporary, path);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    void discard() throws IOException {
+        if (staged.isPresent()) {
+            Files.deleteIfExists(staged.get());
+        }
+    }
+
+    private void move(Path source, Path target) throws IOException {
+        Files.move(
+            source,
+            target,
+            StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING
+        );
+    }
 }
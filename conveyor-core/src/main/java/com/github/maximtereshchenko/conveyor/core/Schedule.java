@@ -0,0 +1,34 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+
+final class Schedule {
+
+    static final String TASKS = "tasks";
+
+    private final Executor executor;
+    private final Permits workers;
+    private final Durations durations;
+    private final long priority;
+
+    Schedule(Executor executor, Permits workers, Durations durations, long priority) {
+        this.executor = executor;
+        this.workers = workers;
+        this.durations = durations;
+        this.priority = priority;
+    }
+
+    Executor executor() {
+        return executor;
+    }
+
+    void execute(Task task) {
+        workers.execute(priority, () -> {
+            var start = Instant.now();
+            task.execute();
+            durations.add(TASKS, Duration.between(start, Instant.now()));
+        });
+    }
+}
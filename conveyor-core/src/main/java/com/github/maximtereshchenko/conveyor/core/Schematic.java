@@ -1,12 +1,11 @@
 package com.github.maximtereshchenko.conveyor.core;
 
-import com.github.maximtereshchenko.conveyor.api.Stage;
 import com.github.maximtereshchenko.conveyor.api.port.SchematicDefinitionConverter;
 import com.github.maximtereshchenko.conveyor.plugin.api.Convention;
 
 import java.nio.file.Path;
 import java.util.LinkedHashSet;
-import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -15,29 +14,36 @@ final class Schematic {
 
     private final ExtendableLocalInheritanceHierarchyModel localModel;
     private final ClasspathFactory classpathFactory;
-    private final PomDefinitionFactory pomDefinitionFactory;
     private final SchematicDefinitionConverter schematicDefinitionConverter;
     private final SchematicModelFactory schematicModelFactory;
     private final PreferencesFactory preferencesFactory;
+    private final PluginClassLoaders pluginClassLoaders;
     private final TaskFactory taskFactory;
+    private final RemoteRepositoryFactory remoteRepositoryFactory;
+    private final Interner interner;
     private final Tracer tracer;
 
     Schematic(
         ExtendableLocalInheritanceHierarchyModel localModel,
         ClasspathFactory classpathFactory,
-        PomDefinitionFactory pomDefinitionFactory,
         SchematicDefinitionConverter schematicDefinitionConverter,
         SchematicModelFactory schematicModelFactory,
-        PreferencesFactory preferencesFactory, TaskFactory taskFactory,
+        PreferencesFactory preferencesFactory,
+        PluginClassLoaders pluginClassLoaders,
+        TaskFactory taskFactory,
+        RemoteRepositoryFactory remoteRepositoryFactory,
+        Interner interner,
         Tracer tracer
     ) {
         this.localModel = localModel;
         this.classpathFactory = classpathFactory;
-        this.pomDefinitionFactory = pomDefinitionFactory;
         this.schematicDefinitionConverter = schematicDefinitionConverter;
         this.schematicModelFactory = schematicModelFactory;
         this.preferencesFactory = preferencesFactory;
+        this.pluginClassLoaders = pluginClassLoaders;
         this.taskFactory = taskFactory;
+        this.remoteRepositoryFactory = remoteRepositoryFactory;
+        this.interner = interner;
         this.tracer = tracer;
     }
 
@@ -67,7 +73,7 @@ final class Schematic {
             );
     }
 
-    void construct(ConstructionRepository constructionRepository, List<Stage> stages) {
+    void publish(ConstructionRepository constructionRepository) {
         tracer.submitConstruction(localModel.id(), localModel.version());
         constructionRepository.publish(
             localModel.id(),
@@ -75,6 +81,25 @@ final class Schematic {
             Repository.Classifier.SCHEMATIC_DEFINITION,
             localModel.path()
         );
+    }
+
+    boolean isPublished(ConstructionRepository constructionRepository) {
+        return artifact(constructionRepository).isPresent();
+    }
+
+    Optional<Path> artifact(ConstructionRepository constructionRepository) {
+        return constructionRepository.artifact(
+            localModel.id(),
+            localModel.version(),
+            Repository.Classifier.CLASSES
+        );
+    }
+
+    Durations durations() {
+        return new Durations(properties(localModel).tasksCacheDirectory().resolve(".durations"));
+    }
+
+    Tasks tasks(ConstructionRepository constructionRepository) {
         var repositories = repositories(constructionRepository, properties(localModel));
         var completeModel = schematicModelFactory.completeInheritanceHierarchyModel(
             localModel,
@@ -86,7 +111,7 @@ final class Schematic {
             properties,
             repositories
         );
-        plugins(completeModel, properties, preferences, repositories)
+        return plugins(completeModel, properties, preferences, repositories)
             .tasks(
                 new ConveyorSchematicAdapter(
                     completeModel.path(),
@@ -97,8 +122,7 @@ final class Schematic {
                     repositories
                 ),
                 properties
-            )
-            .execute(stages);
+            );
     }
 
     Set<Id> required() {
@@ -202,22 +226,11 @@ final class Schematic {
         Properties properties,
         RemoteRepositoryModel remoteRepositoryModel
     ) {
-        var cache = new LocalDirectoryRepository(
-            absolutePath(path.getParent(), properties.remoteRepositoryCacheDirectory())
-        );
-        return new CachingRepository(
-            new MavenRepositoryAdapter(
-                new CachingRepository(
-                    new RemoteMavenRepository(
-                        remoteRepositoryModel.uri(),
-                        tracer.withContext("repository", remoteRepositoryModel.name())
-                    ),
-                    cache
-                ),
-                pomDefinitionFactory,
-                schematicDefinitionConverter
-            ),
-            cache
+        return remoteRepositoryFactory.remoteRepository(
+            remoteRepositoryModel,
+            absolutePath(path.getParent(), properties.remoteRepositoryCacheDirectory()),
+            properties,
+            tracer
         );
     }
 
@@ -250,6 +263,7 @@ final class Schematic {
                 )
                 .collect(Collectors.toCollection(LinkedHashSet::new)),
             classpathFactory,
+            pluginClassLoaders,
             taskFactory,
             tracer
         );
@@ -275,6 +289,12 @@ final class Schematic {
                     localInheritanceHierarchyModel.path().getParent(),
                     localInheritanceHierarchyModel.id().path(conveyorCache.resolve("tasks"))
                 )
+                .withResolvedPath(
+                    SchematicPropertyKey.TASKS_CACHE_BLOBS_DIRECTORY,
+                    localInheritanceHierarchyModel.path().getParent(),
+                    conveyorCache.resolve("blobs")
+                ),
+            interner
         );
     }
 }
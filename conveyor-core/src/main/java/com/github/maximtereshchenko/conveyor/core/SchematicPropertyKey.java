@@ -8,7 +8,17 @@ enum SchematicPropertyKey {
     SCHEMATIC_VERSION("conveyor.schematic.version"),
     SCHEMATIC_DIRECTORY("conveyor.schematic.directory"),
     REMOTE_REPOSITORY_CACHE_DIRECTORY("conveyor.repository.remote.cache.directory"),
-    TASKS_CACHE_DIRECTORY("conveyor.tasks.cache.directory");
+    REMOTE_REPOSITORY_CONNECT_TIMEOUT("conveyor.repository.remote.connect.timeout"),
+    REMOTE_REPOSITORY_REQUEST_TIMEOUT("conveyor.repository.remote.request.timeout"),
+    REMOTE_REPOSITORY_RETRIES("conveyor.repository.remote.retries"),
+    REMOTE_REPOSITORY_MISS_TIME_TO_LIVE("conveyor.repository.remote.miss.ttl"),
+    RESOLUTION_SNAPSHOT_PATH("conveyor.resolution.snapshot"),
+    TASKS_CACHE_DIRECTORY("conveyor.tasks.cache.directory"),
+    TASKS_CACHE_BLOBS_DIRECTORY("conveyor.tasks.cache.blobs.directory"),
+    TASKS_CACHE_HASH_ALGORITHM("conveyor.tasks.cache.hash.algorithm"),
+    TASKS_CACHE_MAXIMUM_SIZE("conveyor.tasks.cache.maximum.size"),
+    TASKS_CACHE_LINKS("conveyor.tasks.cache.links"),
+    TASKS_CACHE_REMOTE_URI("conveyor.tasks.cache.remote.uri");
 
     private final String fullName;
 
@@ -1,7 +1,10 @@
 package com.github.maximtereshchenko.conveyor.core;
 
 import com.github.maximtereshchenko.conveyor.api.Stage;
+import com.github.maximtereshchenko.conveyor.plugin.api.BindingStage;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -11,24 +14,45 @@ import java.util.stream.Collectors;
 
 final class Schematics {
 
+    private static final Set<BindingStage> COMPILATION =
+        EnumSet.of(BindingStage.CLEAN, BindingStage.COMPILE);
+    private static final Set<BindingStage> TESTING = EnumSet.of(BindingStage.TEST);
+    private static final Set<BindingStage> ARCHIVING =
+        EnumSet.of(BindingStage.ARCHIVE, BindingStage.PUBLISH);
+    private static final Phases PIPELINED = new Phases(COMPILATION, TESTING, ARCHIVING, true);
+    private static final Phases SEQUENTIAL = new Phases(
+        EnumSet.allOf(BindingStage.class),
+        EnumSet.noneOf(BindingStage.class),
+        EnumSet.noneOf(BindingStage.class),
+        false
+    );
+
     private final LinkedHashMap<Id, Schematic> indexed;
     private final Schematic initial;
     private final Executor executor;
+    private final Permits workers;
+    private final Tracer tracer;
 
     private Schematics(
         LinkedHashMap<Id, Schematic> indexed,
         Schematic initial,
-        Executor executor
+        Executor executor,
+        Permits workers,
+        Tracer tracer
     ) {
         this.indexed = indexed;
         this.initial = initial;
         this.executor = executor;
+        this.workers = workers;
+        this.tracer = tracer;
     }
 
     static Schematics from(
         LinkedHashSet<Schematic> schematics,
         Schematic initial,
-        Executor executor
+        Executor executor,
+        Permits workers,
+        Tracer tracer
     ) {
         return new Schematics(
             schematics.stream()
@@ -41,19 +65,59 @@ final class Schematics {
                     )
                 ),
             initial,
-            executor
+            executor,
+            workers,
+            tracer
         );
     }
 
     void construct(List<Stage> stages) {
-        var constructionRepository = new ConstructionRepository();
-        var constructions = new HashMap<Id, CompletableFuture<Void>>();
+        var required = new LinkedHashMap<Id, List<Id>>();
         for (var schematic : indexed.values()) {
             if (toBeConstructed(schematic)) {
-                construct(schematic, constructions, constructionRepository, stages);
+                collectRequired(schematic, required);
+            }
+        }
+        var durations = required.keySet()
+            .stream()
+            .collect(Collectors.toMap(Function.identity(), id -> indexed.get(id).durations()));
+        var priorities = new HashMap<Id, Long>();
+        var schedules = required.keySet()
+            .stream()
+            .collect(
+                Collectors.toMap(
+                    Function.identity(),
+                    id -> new Schedule(
+                        executor,
+                        workers,
+                        durations.get(id),
+                        remaining(id, required, durations, priorities)
+                    )
+                )
+            );
+        var plan = new ConstructionPlan(
+            required,
+            durations,
+            schedules,
+            new ConstructionRepository(),
+            stages,
+            phases(stages)
+        );
+        var constructions = new HashMap<Id, Construction>();
+        try {
+            for (var id : required.keySet()) {
+                construct(id, plan, constructions);
             }
+            awaitConstruction(
+                constructions.values()
+                    .stream()
+                    .map(Construction::constructed)
+                    .toList()
+            );
+            tracer.submitCriticalPath(criticalPath(required, durations));
+        } finally {
+            durations.values().forEach(Durations::store);
         }
-        awaitConstruction(constructions.values());
     }
 
     Optional<Schematic> schematic(Id id) {
@@ -71,33 +135,187 @@ final class Schematics {
         }
     }
 
-    private CompletableFuture<Void> construct(
-        Schematic schematic,
-        Map<Id, CompletableFuture<Void>> constructions,
-        ConstructionRepository constructionRepository,
-        List<Stage> stages
+    private Construction construct(
+        Id id,
+        ConstructionPlan plan,
+        Map<Id, Construction> constructions
     ) {
-        if (constructions.containsKey(schematic.id())) {
-            return constructions.get(schematic.id());
+        if (constructions.containsKey(id)) {
+            return constructions.get(id);
         }
-        var future = CompletableFuture.allOf(
-                schematic.required()
-                    .stream()
-                    .filter(indexed::containsKey)
-                    .map(id -> construct(
-                        indexed.get(id),
-                        constructions,
-                        constructionRepository,
-                        stages
-                    ))
-                    .toArray(CompletableFuture[]::new)
+        var schematic = indexed.get(id);
+        var schedule = plan.schedules().get(id);
+        var constructionRepository = plan.constructionRepository();
+        var stages = plan.stages();
+        var required = plan.required()
+            .get(id)
+            .stream()
+            .map(requiredId -> construct(requiredId, plan, constructions))
+            .toList();
+        var phases = plan.phases();
+        var published = new CompletableFuture<Void>();
+        var compiled = allOf(required, Construction::published)
+            .thenApplyAsync(
+                ignored -> {
+                    schematic.publish(constructionRepository);
+                    var artifacts = artifacts(id, plan);
+                    var tasks = schematic.tasks(constructionRepository);
+                    tasks.execute(stages, phases.compilation(), schedule);
+                    if (phases.isPipelined() && schematic.isPublished(constructionRepository)) {
+                        published.complete(null);
+                    }
+                    return new PreparedTasks(tasks, artifacts);
+                },
+                executor
+            );
+        var constructed = compiled.thenApplyAsync(
+                prepared -> {
+                    prepared.tasks().execute(stages, phases.testing(), schedule);
+                    return prepared;
+                },
+                executor
+            )
+            .thenCombine(
+                allOf(required, Construction::constructed),
+                (prepared, ignored) -> prepared
             )
-            .thenRunAsync(
-                () -> schematic.construct(constructionRepository, stages),
+            .thenAcceptAsync(
+                prepared -> archive(id, schematic, prepared, plan, schedule),
                 executor
+            )
+            .whenComplete((ignored, throwable) -> {
+                if (throwable == null) {
+                    published.complete(null);
+                } else {
+                    published.completeExceptionally(throwable);
+                }
+            });
+        var construction = new Construction(published, constructed);
+        constructions.put(id, construction);
+        return construction;
+    }
+
+    private void archive(
+        Id id,
+        Schematic schematic,
+        PreparedTasks prepared,
+        ConstructionPlan plan,
+        Schedule schedule
+    ) {
+        var archiving = plan.phases().archiving();
+        if (!prepared.tasks().executes(plan.stages(), archiving)) {
+            return;
+        }
+        if (prepared.artifacts().equals(artifacts(id, plan))) {
+            prepared.tasks().execute(plan.stages(), archiving, schedule);
+        } else {
+            schematic.tasks(plan.constructionRepository())
+                .execute(plan.stages(), archiving, schedule);
+        }
+    }
+
+    private Map<Id, Optional<Path>> artifacts(Id id, ConstructionPlan plan) {
+        return plan.required()
+            .get(id)
+            .stream()
+            .collect(
+                Collectors.toMap(
+                    Function.identity(),
+                    requiredId -> indexed.get(requiredId).artifact(plan.constructionRepository())
+                )
             );
-        constructions.put(schematic.id(), future);
-        return future;
+    }
+
+    private Phases phases(List<Stage> stages) {
+        if (stages.stream().sorted().toList().equals(stages)) {
+            return PIPELINED;
+        }
+        return SEQUENTIAL;
+    }
+
+    private void collectRequired(Schematic schematic, Map<Id, List<Id>> required) {
+        if (required.containsKey(schematic.id())) {
+            return;
+        }
+        var ids = schematic.required()
+            .stream()
+            .filter(indexed::containsKey)
+            .toList();
+        for (var id : ids) {
+            collectRequired(indexed.get(id), required);
+        }
+        required.put(schematic.id(), ids);
+    }
+
+    private long remaining(
+        Id id,
+        Map<Id, List<Id>> required,
+        Map<Id, Durations> durations,
+        Map<Id, Long> remaining
+    ) {
+        var known = remaining.get(id);
+        if (known != null) {
+            return known;
+        }
+        var computed = Math.max(durations.get(id).previous(Schedule.TASKS).toMillis(), 1) +
+                       required.entrySet()
+                           .stream()
+                           .filter(entry -> entry.getValue().contains(id))
+                           .mapToLong(entry ->
+                               remaining(entry.getKey(), required, durations, remaining)
+                           )
+                           .max()
+                           .orElse(0);
+        remaining.put(id, computed);
+        return computed;
+    }
+
+    private LinkedHashMap<Id, Duration> criticalPath(
+        Map<Id, List<Id>> required,
+        Map<Id, Durations> durations
+    ) {
+        var finished = new HashMap<Id, Duration>();
+        for (var id : required.keySet()) {
+            finished.put(
+                id,
+                required.get(id)
+                    .stream()
+                    .map(finished::get)
+                    .max(Comparator.naturalOrder())
+                    .orElse(Duration.ZERO)
+                    .plus(durations.get(id).current(Schedule.TASKS))
+            );
+        }
+        var path = new ArrayList<Id>();
+        var last = longest(required.keySet(), finished);
+        while (last.isPresent()) {
+            path.addFirst(last.get());
+            last = longest(required.get(last.get()), finished);
+        }
+        return path.stream()
+            .collect(
+                Collectors.toMap(
+                    Function.identity(),
+                    id -> durations.get(id).current(Schedule.TASKS),
+                    (a, b) -> a,
+                    LinkedHashMap::new
+                )
+            );
+    }
+
+    private Optional<Id> longest(Collection<Id> ids, Map<Id, Duration> finished) {
+        return ids.stream().max(Comparator.comparing(finished::get));
+    }
+
+    private CompletableFuture<Void> allOf(
+        List<Construction> constructions,
+        Function<Construction, CompletableFuture<?>> stage
+    ) {
+        return CompletableFuture.allOf(
+            constructions.stream()
+                .map(stage)
+                .toArray(CompletableFuture[]::new)
+        );
     }
 
     private boolean toBeConstructed(Schematic schematic) {
@@ -105,4 +323,27 @@ final class Schematics {
                schematic.inheritsFrom(initial) ||
                initial.dependsOn(schematic, this);
     }
+
+    private record ConstructionPlan(
+        Map<Id, List<Id>> required,
+        Map<Id, Durations> durations,
+        Map<Id, Schedule> schedules,
+        ConstructionRepository constructionRepository,
+        List<Stage> stages,
+        Phases phases
+    ) {}
+
+    private record Phases(
+        Set<BindingStage> compilation,
+        Set<BindingStage> testing,
+        Set<BindingStage> archiving,
+        boolean isPipelined
+    ) {}
+
+    private record PreparedTasks(Tasks tasks, Map<Id, Optional<Path>> artifacts) {}
+
+    private record Construction(
+        CompletableFuture<Void> published,
+        CompletableFuture<Void> constructed
+    ) {}
 }
@@ -0,0 +1,44 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+final class SingleFlight<K, V> {
+
+    private final Map<K, Flight<V>> flights = new ConcurrentHashMap<>();
+
+    V result(K key, Supplier<V> supplier) {
+        var flight = new Flight<V>(Thread.currentThread(), new CompletableFuture<>());
+        var inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            if (inFlight.owner() == Thread.currentThread()) {
+                return supplier.get();
+            }
+            return awaited(inFlight.result());
+        }
+        try {
+            flight.result().complete(supplier.get());
+        } catch (RuntimeException e) {
+            flight.result().completeExceptionally(e);
+        } finally {
+            flights.remove(key, flight);
+        }
+        return awaited(flight.result());
+    }
+
+    private V awaited(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private record Flight<V>(Thread owner, CompletableFuture<V> result) {}
+}
@@ -0,0 +1,38 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+final class SnapshotClasspathFactory implements ClasspathFactory {
+
+    private final ClasspathFactory original;
+    private final ResolutionSnapshot resolutionSnapshot;
+
+    SnapshotClasspathFactory(ClasspathFactory original, ResolutionSnapshot resolutionSnapshot) {
+        this.original = original;
+        this.resolutionSnapshot = resolutionSnapshot;
+    }
+
+    @Override
+    public Set<Path> classpath(Set<? extends Artifact> artifacts) {
+        if (artifacts.isEmpty()) {
+            return original.classpath(artifacts);
+        }
+        var roots = artifacts.stream()
+            .map(artifact ->
+                new ResolutionSnapshot.Root(
+                    artifact.id().toString(),
+                    artifact.version().toString(),
+                    artifact.path()
+                )
+            )
+            .collect(Collectors.toSet());
+        return resolutionSnapshot.classpath(roots)
+            .orElseGet(() -> {
+                var classpath = original.classpath(artifacts);
+                resolutionSnapshot.record(roots, classpath);
+                return classpath;
+            });
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import com.github.maximtereshchenko.conveyor.api.port.SchematicDefinitionConverter;
+import com.github.maximtereshchenko.conveyor.api.schematic.SchematicDefinition;
+
+import java.nio.file.Path;
+
+final class SnapshotSchematicDefinitionConverter implements SchematicDefinitionConverter {
+
+    private final SchematicDefinitionConverter original;
+    private final ResolutionSnapshot resolutionSnapshot;
+
+    SnapshotSchematicDefinitionConverter(
+        SchematicDefinitionConverter original,
+        ResolutionSnapshot resolutionSnapshot
+    ) {
+        this.original = original;
+        this.resolutionSnapshot = resolutionSnapshot;
+    }
+
+    @Override
+    public SchematicDefinition schematicDefinition(Path path) {
+        var schematicDefinition = original.schematicDefinition(path);
+        resolutionSnapshot.definition(path);
+        return schematicDefinition;
+    }
+
+    @Override
+    public byte[] bytes(SchematicDefinition schematicDefinition) {
+        return original.bytes(schematicDefinition);
+    }
+}
@@ -5,6 +5,7 @@ import com.github.maximtereshchenko.conveyor.api.schematic.DependencyScope;
 import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 abstract class StoredArtifact implements Artifact {
@@ -16,6 +17,11 @@ abstract class StoredArtifact implements Artifact {
     private final SchematicModelFactory schematicModelFactory;
     private final PreferencesFactory preferencesFactory;
     private final Set<Id> propagatedExclusions;
+    private final ReentrantLock lock = new ReentrantLock();
+    private Id id;
+    private Version version;
+    private Path path;
+    private Set<Artifact> dependencies;
 
     StoredArtifact(
         ArtifactModel artifactModel,
@@ -37,29 +43,77 @@ abstract class StoredArtifact implements Artifact {
 
     @Override
     public Id id() {
-        return artifactModel.idModel().id(properties);
+        lock.lock();
+        try {
+            if (id == null) {
+                id = artifactModel.idModel().id(properties);
+            }
+            return id;
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
     public Version version() {
-        return version(artifactModel, properties, preferences);
+        lock.lock();
+        try {
+            if (version == null) {
+                version = version(artifactModel, properties, preferences);
+            }
+            return version;
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
     public Path path() {
-        return repositories.jar(id(), version());
+        lock.lock();
+        try {
+            if (path == null) {
+                path = repositories.jar(id(), version());
+            }
+            return path;
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
     public Set<Artifact> dependencies() {
+        lock.lock();
+        try {
+            if (dependencies == null) {
+                dependencies = resolvedDependencies();
+            }
+            return dependencies;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Set<Id> exclusions() {
+        var exclusions = new HashSet<>(propagatedExclusions);
+        exclusions.addAll(artifactModel.exclusions());
+        return exclusions;
+    }
+
+    abstract Version version(
+        ArtifactModel artifactModel,
+        Properties properties,
+        Preferences preferences
+    );
+
+    private Set<Artifact> resolvedDependencies() {
         var inheritanceHierarchyModel = schematicModelFactory.inheritanceHierarchyModel(
             id(),
             version(),
             repositories
         );
-        var schematicProperties = new Properties(inheritanceHierarchyModel.properties());
-        var exclusions = new HashSet<>(propagatedExclusions);
-        exclusions.addAll(artifactModel.exclusions());
+        var schematicProperties = properties.withModel(inheritanceHierarchyModel.properties());
+        var exclusions = exclusions();
         var schematicPreferences = preferencesFactory.preferences(
             inheritanceHierarchyModel.preferences(),
             schematicProperties,
@@ -86,10 +140,4 @@ abstract class StoredArtifact implements Artifact {
             .filter(dependency -> dependency.scope() != DependencyScope.TEST)
             .collect(Collectors.toSet());
     }
-
-    abstract Version version(
-        ArtifactModel artifactModel,
-        Properties properties,
-        Preferences preferences
-    );
 }
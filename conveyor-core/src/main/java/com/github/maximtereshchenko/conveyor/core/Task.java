@@ -3,6 +3,9 @@ package com.github.maximtereshchenko.conveyor.core;
 import com.github.maximtereshchenko.conveyor.plugin.api.BindingStage;
 import com.github.maximtereshchenko.conveyor.plugin.api.BindingStep;
 
+import java.nio.file.Path;
+import java.util.Set;
+
 interface Task extends Comparable<Task> {
 
     String name();
@@ -11,5 +14,9 @@ interface Task extends Comparable<Task> {
 
     BindingStep step();
 
+    Set<Path> inputs();
+
+    Set<Path> outputs();
+
     void execute();
 }
@@ -1,16 +1,46 @@
 package com.github.maximtereshchenko.conveyor.core;
 
-import com.github.maximtereshchenko.conveyor.files.Copy;
 import com.github.maximtereshchenko.conveyor.files.FileTree;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 final class TaskCache {
 
     private final Path directory;
+    private final Blobs blobs;
+    private final FileHashes fileHashes;
+    private final HashFunction hashFunction;
+    private final RemoteTaskCache remoteTaskCache;
 
-    TaskCache(Path directory) {
+    TaskCache(
+        Path directory,
+        Blobs blobs,
+        FileHashes fileHashes,
+        HashFunction hashFunction,
+        RemoteTaskCache remoteTaskCache
+    ) {
         this.directory = directory;
+        this.blobs = blobs;
+        this.fileHashes = fileHashes;
+        this.hashFunction = hashFunction;
+        this.remoteTaskCache = remoteTaskCache;
     }
 
     boolean changed(Inputs inputs, Outputs outputs) {
@@ -18,32 +48,33 @@ final class TaskCache {
                changed(outputsChecksumPath(), outputs.checksum());
     }
 
-    boolean restore(Inputs inputs, Path destination) {
-        var source = directory.resolve(String.valueOf(inputs.checksum()));
-        var fileTree = new FileTree(source);
-        if (!fileTree.exists()) {
-            return false;
-        }
-        fileTree.copyTo(destination);
-        return true;
+    boolean restore(Inputs inputs, Outputs outputs, Path destination) {
+        var key = inputs.checksum();
+        var manifest = key.path(directory);
+        return restore(manifest, outputs, destination) ||
+               download(key, manifest) && restore(manifest, outputs, destination);
     }
 
     void store(Inputs inputs, Outputs outputs, Path root) {
-        for (var path : outputs.paths()) {
-            new FileTree(path)
-                .walk(
-                    new Copy(
-                        path,
-                        directory.resolve(String.valueOf(inputs.checksum()))
-                            .resolve(root.relativize(path))
-                    )
-                );
-        }
+        var entries = outputs.paths()
+            .stream()
+            .map(FileTree::new)
+            .map(FileTree::files)
+            .flatMap(Set::stream)
+            .parallel()
+            .map(file -> entry(root, file))
+            .sorted(Comparator.comparing(Entry::relativePath))
+            .toList();
+        write(inputs.checksum().path(directory), entries);
+        remoteTaskCache.write(
+            inputs.checksum(),
+            outputStream -> archive(entries, root, outputStream)
+        );
     }
 
     void storeChecksums(Inputs inputs, Outputs outputs) {
-        new FileTree(inputsChecksumPath()).write(inputs.checksum());
-        new FileTree(outputsChecksumPath()).write(outputs.checksum());
+        new FileTree(inputsChecksumPath()).write(inputs.checksum().toString());
+        new FileTree(outputsChecksumPath()).write(outputs.checksum().toString());
     }
 
     void deleteChecksums() {
@@ -51,12 +82,140 @@ final class TaskCache {
         new FileTree(outputsChecksumPath()).delete();
     }
 
-    private boolean changed(Path path, long expected) {
+    private Entry entry(Path root, Path file) {
+        var hash = fileHashes.hash(file);
+        return new Entry(
+            hash,
+            blobs.store(hash, file),
+            StreamSupport.stream(root.relativize(file).spliterator(), false)
+                .map(Path::toString)
+                .collect(Collectors.joining("/"))
+        );
+    }
+
+    private boolean restore(Path manifest, Outputs outputs, Path destination) {
+        if (!Files.isRegularFile(manifest)) {
+            return false;
+        }
+        var entries = entries(manifest);
+        if (!entries.stream().allMatch(entry -> blobs.isIntact(entry.hash(), entry.size()))) {
+            new FileTree(manifest).delete();
+            return false;
+        }
+        outputs.delete();
+        if (!entries.parallelStream()
+            .map(entry -> restore(entry, destination))
+            .reduce(Boolean.TRUE, Boolean::logicalAnd)) {
+            entries.forEach(entry -> new FileTree(entry.path(destination)).delete());
+            new FileTree(manifest).delete();
+            return false;
+        }
+        return true;
+    }
+
+    private boolean restore(Entry entry, Path destination) {
+        var file = entry.path(destination);
+        if (!blobs.restore(entry.hash(), file)) {
+            return false;
+        }
+        fileHashes.record(file, entry.hash());
+        return true;
+    }
+
+    private boolean download(Hash key, Path manifest) {
+        var entries = new ArrayList<Entry>();
+        if (!remoteTaskCache.read(key, inputStream -> extract(inputStream, entries))) {
+            return false;
+        }
+        write(manifest, entries);
+        return true;
+    }
+
+    private void extract(InputStream inputStream, List<Entry> entries) throws IOException {
+        var zipInputStream = new ZipInputStream(inputStream);
+        for (
+            var zipEntry = zipInputStream.getNextEntry();
+            zipEntry != null;
+            zipEntry = zipInputStream.getNextEntry()
+        ) {
+            if (!zipEntry.isDirectory()) {
+                entries.add(entry(zipEntry.getName(), zipInputStream));
+            }
+        }
+    }
+
+    private Entry entry(String relativePath, InputStream inputStream) throws IOException {
+        var path = Paths.get(relativePath);
+        if (path.isAbsolute() || path.normalize().startsWith("..")) {
+            throw new IOException("Invalid entry " + relativePath);
+        }
+        Files.createDirectories(directory);
+        var temporary = Files.createTempFile(directory, null, null);
+        try {
+            var messageDigest = hashFunction.messageDigest();
+            try (
+                var outputStream = new DigestOutputStream(
+                    Files.newOutputStream(temporary),
+                    messageDigest
+                )
+            ) {
+                inputStream.transferTo(outputStream);
+            }
+            var hash = new Hash(messageDigest.digest());
+            return new Entry(hash, blobs.store(hash, temporary), relativePath);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void archive(List<Entry> entries, Path root, OutputStream outputStream)
+        throws IOException {
+        try (var zipOutputStream = new ZipOutputStream(outputStream)) {
+            for (var entry : entries) {
+                zipOutputStream.putNextEntry(new ZipEntry(entry.relativePath()));
+                Files.copy(entry.path(root), zipOutputStream);
+                zipOutputStream.closeEntry();
+            }
+        }
+    }
+
+    private void write(Path manifest, List<Entry> entries) {
+        var temporary = manifest.resolveSibling(manifest.getFileName() + ".tmp");
+        new FileTree(temporary).write(
+            entries.stream()
+                .map(Entry::line)
+                .collect(Collectors.joining(System.lineSeparator()))
+        );
+        move(temporary, manifest);
+    }
+
+    private List<Entry> entries(Path manifest) {
+        return new FileTree(manifest).read()
+            .lines()
+            .map(line -> line.split(" ", 3))
+            .map(parts -> new Entry(Hash.fromHex(parts[0]), Long.parseLong(parts[1]), parts[2]))
+            .toList();
+    }
+
+    private void move(Path source, Path destination) {
+        try {
+            Files.move(
+                source,
+                destination,
+                StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean changed(Path path, Hash expected) {
         var fileTree = new FileTree(path);
         if (!fileTree.exists()) {
             return true;
         }
-        return Long.parseLong(fileTree.read()) != expected;
+        return !fileTree.read().equals(expected.toString());
     }
 
     private Path inputsChecksumPath() {
@@ -66,4 +225,15 @@ final class TaskCache {
     private Path outputsChecksumPath() {
         return directory.resolve("outputs");
     }
+
+    private record Entry(Hash hash, long size, String relativePath) {
+
+        Path path(Path root) {
+            return root.resolve(relativePath);
+        }
+
+        String line() {
+            return "%s %d %s".formatted(hash, size, relativePath);
+        }
+    }
 }
@@ -0,0 +1,40 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class TaskCacheEviction {
+
+    private final Map<Path, Long> maximumSizes = new ConcurrentHashMap<>();
+    private final Map<Path, Set<Path>> taskDirectories = new ConcurrentHashMap<>();
+    private final Tracer tracer;
+
+    TaskCacheEviction(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    void register(Path taskDirectory, Path blobsDirectory, long maximumSize) {
+        maximumSizes.merge(blobsDirectory, maximumSize, Math::min);
+        taskDirectories.computeIfAbsent(blobsDirectory, key -> ConcurrentHashMap.newKeySet())
+            .add(taskDirectory);
+    }
+
+    void evict(Instant start) {
+        for (var directory : maximumSizes.keySet()) {
+            var maximumSize = maximumSizes.remove(directory);
+            var blobs = new Blobs(directory);
+            try {
+                blobs.evict(maximumSize, start, tracer);
+                for (var taskDirectory : taskDirectories.remove(directory)) {
+                    new Manifests(taskDirectory).evict(blobs, start, tracer);
+                }
+            } catch (UncheckedIOException e) {
+                tracer.submitEvictionFailure(directory, e);
+            }
+        }
+    }
+}
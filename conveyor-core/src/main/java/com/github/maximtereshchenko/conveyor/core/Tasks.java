@@ -3,7 +3,11 @@ package com.github.maximtereshchenko.conveyor.core;
 import com.github.maximtereshchenko.conveyor.api.Stage;
 import com.github.maximtereshchenko.conveyor.plugin.api.BindingStage;
 
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -26,16 +30,100 @@ final class Tasks {
         return all.toString();
     }
 
-    void execute(List<Stage> stages) {
-        stages.stream()
+    boolean executes(List<Stage> stages, Set<BindingStage> bindingStages) {
+        return stages.stream()
             .map(this::activeStages)
-            .forEach(activeStages ->
+            .anyMatch(activeStages ->
+                all.stream()
+                    .map(Task::stage)
+                    .anyMatch(stage -> activeStages.contains(stage) && bindingStages.contains(stage))
+            );
+    }
+
+    void execute(List<Stage> stages, Set<BindingStage> bindingStages, Schedule schedule) {
+        for (var stage : stages) {
+            var activeStages = activeStages(stage);
+            executeConcurrently(
                 all.stream()
                     .filter(task -> activeStages.contains(task.stage()))
-                    .forEach(Task::execute)
+                    .filter(task -> bindingStages.contains(task.stage()))
+                    .toList(),
+                schedule
+            );
+        }
+    }
+
+    private void executeConcurrently(List<Task> tasks, Schedule schedule) {
+        var isFailed = new AtomicBoolean(false);
+        var executions = new ArrayList<CompletableFuture<Void>>();
+        for (var task : tasks) {
+            executions.add(
+                CompletableFuture.allOf(
+                        dependencies(task, tasks, executions).toArray(CompletableFuture[]::new)
+                    )
+                    .thenRunAsync(
+                        () -> {
+                            if (!isFailed.get()) {
+                                schedule.execute(task);
+                            }
+                        },
+                        schedule.executor()
+                    )
+                    .whenComplete((result, throwable) -> {
+                        if (throwable != null) {
+                            isFailed.set(true);
+                        }
+                    })
+            );
+        }
+        awaitExecution(executions);
+    }
+
+    private List<CompletableFuture<Void>> dependencies(
+        Task task,
+        List<Task> tasks,
+        List<CompletableFuture<Void>> executions
+    ) {
+        var dependencies = new ArrayList<CompletableFuture<Void>>();
+        for (var i = 0; i < executions.size(); i++) {
+            if (dependsOn(task, tasks.get(i))) {
+                dependencies.add(executions.get(i));
+            }
+        }
+        return dependencies;
+    }
+
+    private boolean dependsOn(Task task, Task previous) {
+        return isUndeclared(task) ||
+               isUndeclared(previous) ||
+               overlap(previous.outputs(), task.inputs()) ||
+               overlap(previous.outputs(), task.outputs()) ||
+               overlap(previous.inputs(), task.outputs());
+    }
+
+    private boolean isUndeclared(Task task) {
+        return task.inputs().isEmpty() && task.outputs().isEmpty();
+    }
+
+    private boolean overlap(Set<Path> first, Set<Path> second) {
+        return first.stream()
+            .anyMatch(path ->
+                second.stream()
+                    .anyMatch(other -> path.startsWith(other) || other.startsWith(path))
             );
     }
 
+    private void awaitExecution(List<CompletableFuture<Void>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
     private Set<BindingStage> activeStages(Stage stage) {
         return Stream.iterate(
                 BindingStage.valueOf(stage.toString()),
@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
@@ -45,6 +46,28 @@ final class Tracer {
         submit(Importance.INFO, () -> "Downloaded " + uri);
     }
 
+    void submitDownloadRetry(URI uri, int attempts) {
+        submit(
+            Importance.WARN,
+            () -> "Retrying download of %s after %d failed attempts".formatted(uri, attempts)
+        );
+    }
+
+    void submitRemoteTaskCacheHit(URI uri) {
+        submit(Importance.INFO, () -> "Restored task outputs from " + uri);
+    }
+
+    void submitUploadedTaskOutputs(URI uri) {
+        submit(Importance.INFO, () -> "Uploaded " + uri);
+    }
+
+    void submitRemoteTaskCacheFailure(URI uri, Exception exception) {
+        submit(
+            Importance.WARN,
+            () -> "Remote task cache request %s failed: %s".formatted(uri, exception.getMessage())
+        );
+    }
+
     void submitConstructionDuration(Instant start, Instant end) {
         submit(
             Importance.INFO,
@@ -52,6 +75,28 @@ final class Tracer {
         );
     }
 
+    void submitMemoryUsage(Runtime runtime, Interner interner) {
+        submit(
+            Importance.DEBUG,
+            () -> "Heap usage %d of %d bytes, interned %d ids and %d versions".formatted(
+                runtime.totalMemory() - runtime.freeMemory(),
+                runtime.totalMemory(),
+                interner.ids(),
+                interner.versions()
+            )
+        );
+    }
+
+    void submitCriticalPath(LinkedHashMap<Id, Duration> path) {
+        submit(
+            Importance.INFO,
+            () -> "Critical path " + path.entrySet()
+                .stream()
+                .map(entry -> "%s (%dms)".formatted(entry.getKey(), entry.getValue().toMillis()))
+                .collect(Collectors.joining(" -> "))
+        );
+    }
+
     void submitConstruction(Id id, Version version) {
         submit(
             Importance.INFO,
@@ -71,6 +116,28 @@ final class Tracer {
         submit(Importance.INFO, () -> task + " outputs were restored from cache");
     }
 
+    void submitHashedBytes(String task, long bytes) {
+        submit(Importance.DEBUG, () -> "%s hashed %d bytes".formatted(task, bytes));
+    }
+
+    void submitEvictedBlobs(int count, long size) {
+        submit(Importance.DEBUG, () -> "Evicted %d blobs of %d bytes".formatted(count, size));
+    }
+
+    void submitEvictedManifests(Path directory, int count) {
+        submit(
+            Importance.DEBUG,
+            () -> "Evicted %d manifests from %s".formatted(count, directory)
+        );
+    }
+
+    void submitEvictionFailure(Path directory, Exception exception) {
+        submit(
+            Importance.WARN,
+            () -> "Could not evict blobs from %s: %s".formatted(directory, exception.getMessage())
+        );
+    }
+
     void submit(Importance importance, Supplier<String> supplier) {
         if (!isTraceable(importance)) {
             return;
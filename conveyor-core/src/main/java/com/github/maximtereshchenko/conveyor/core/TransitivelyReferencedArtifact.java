@@ -38,8 +38,7 @@ final class TransitivelyReferencedArtifact extends StoredArtifact {
         return preferences.version(id)
             .or(() ->
                 artifactModel.version()
-                    .map(properties::interpolated)
-                    .map(Version::new)
+                    .map(properties::version)
                     .or(() -> schematicPreferences.version(id))
             )
             .orElseThrow();
@@ -1,38 +1,48 @@
 package com.github.maximtereshchenko.conveyor.core;
 
-import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.regex.Pattern;
 
 final class Version implements Comparable<Version> {
 
+    private static final Pattern SEPARATOR = Pattern.compile("\\.|-|(?<=[a-z])(?=\\d)");
+    private static final Identifiers NO_QUALIFIERS = new Identifiers(new int[0], new String[0]);
+
     private final String raw;
+    private final Identifiers versionComponents;
+    private final Identifiers qualifiers;
 
     Version(String raw) {
         this.raw = raw;
+        var index = raw.indexOf('-');
+        if (index == -1) {
+            this.versionComponents = identifiers(raw);
+            this.qualifiers = NO_QUALIFIERS;
+        } else {
+            this.versionComponents = identifiers(raw.substring(0, index));
+            this.qualifiers = identifiers(raw.substring(index + 1));
+        }
     }
 
     @Override
     public int compareTo(Version version) {
-        var byVersionComponents = compare(versionComponents(), version.versionComponents());
+        var byVersionComponents = versionComponents.compareTo(version.versionComponents);
         if (byVersionComponents != 0) {
             return byVersionComponents;
         }
-        var thisQualifiers = qualifiers();
-        var otherQualifiers = version.qualifiers();
-        if (thisQualifiers.isEmpty() && !otherQualifiers.isEmpty()) {
+        if (qualifiers.isEmpty() && !version.qualifiers.isEmpty()) {
             return 1;
         }
-        if (otherQualifiers.isEmpty() && !thisQualifiers.isEmpty()) {
+        if (version.qualifiers.isEmpty() && !qualifiers.isEmpty()) {
             return -1;
         }
-        return compare(thisQualifiers, otherQualifiers);
+        return qualifiers.compareTo(version.qualifiers);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(raw);
+        return raw.hashCode();
     }
 
     @Override
@@ -52,83 +62,57 @@ final class Version implements Comparable<Version> {
         return raw;
     }
 
-    private int compare(List<Identifier> thisTokens, List<Identifier> otherTokens) {
-        var index = 0;
-        while (index < thisTokens.size() && index < otherTokens.size()) {
-            var comparison = thisTokens.get(index).compareTo(otherTokens.get(index));
-            if (comparison != 0) {
-                return comparison;
+    private Identifiers identifiers(String string) {
+        var tokens = SEPARATOR.split(string);
+        var numbers = new int[tokens.length];
+        var strings = new String[tokens.length];
+        for (var index = 0; index < tokens.length; index++) {
+            try {
+                numbers[index] = Integer.parseInt(tokens[index]);
+            } catch (NumberFormatException ignored) {
+                strings[index] = tokens[index].toLowerCase(Locale.ROOT).intern();
             }
-            index++;
-        }
-        if (index < thisTokens.size()) {
-            return 1;
-        }
-        if (index < otherTokens.size()) {
-            return -1;
-        }
-        return 0;
-    }
-
-    private List<Identifier> identifiers(String string) {
-        return Stream.of(string.split("\\.|-|(?<=[a-z])(?=\\d)"))
-            .map(this::identifier)
-            .toList();
-    }
-
-    private Identifier identifier(String token) {
-        try {
-            return new NumberIdentifier(Integer.parseInt(token));
-        } catch (NumberFormatException ignored) {
-            return new StringIdentifier(token.toLowerCase(Locale.ROOT));
         }
+        return new Identifiers(numbers, strings);
     }
 
-    private List<Identifier> versionComponents() {
-        return identifiers(versionComponentsPart());
-    }
+    private record Identifiers(int[] numbers, String[] strings) {
 
-    private String versionComponentsPart() {
-        var index = indexOfDash();
-        if (index == -1) {
-            return raw;
+        boolean isEmpty() {
+            return numbers.length == 0;
         }
-        return raw.substring(0, index);
-    }
 
-    private List<Identifier> qualifiers() {
-        var index = indexOfDash();
-        if (index == -1) {
-            return List.of();
-        }
-        return identifiers(raw.substring(index + 1));
-    }
-
-    private int indexOfDash() {
-        return raw.indexOf('-');
-    }
-
-    private sealed interface Identifier extends Comparable<Identifier> {}
-
-    private record NumberIdentifier(int value) implements Identifier {
-
-        @Override
-        public int compareTo(Identifier token) {
-            return switch (token) {
-                case NumberIdentifier number -> Integer.compare(value, number.value());
-                case StringIdentifier ignored -> -1;
-            };
+        int compareTo(Identifiers identifiers) {
+            var index = 0;
+            while (index < numbers.length && index < identifiers.numbers.length) {
+                var comparison = compare(index, identifiers);
+                if (comparison != 0) {
+                    return comparison;
+                }
+                index++;
+            }
+            if (index < numbers.length) {
+                return 1;
+            }
+            if (index < identifiers.numbers.length) {
+                return -1;
+            }
+            return 0;
         }
-    }
-
-    private record StringIdentifier(String value) implements Identifier {
 
-        @Override
-        public int compareTo(Identifier token) {
-            return switch (token) {
-                case NumberIdentifier ignored -> 1;
-                case StringIdentifier string -> value.compareTo(string.value());
-            };
+        private int compare(int index, Identifiers identifiers) {
+            var string = strings[index];
+            var other = identifiers.strings[index];
+            if (string == null && other == null) {
+                return Integer.compare(numbers[index], identifiers.numbers[index]);
+            }
+            if (string == null) {
+                return -1;
+            }
+            if (other == null) {
+                return 1;
+            }
+            return string.compareTo(other);
         }
     }
 }
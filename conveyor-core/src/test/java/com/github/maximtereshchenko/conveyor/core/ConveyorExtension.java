@@ -1,6 +1,7 @@
 package com.github.maximtereshchenko.conveyor.core;
 
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.github.maximtereshchenko.conveyor.api.ConcurrencyLimits;
 import com.github.maximtereshchenko.conveyor.api.ConveyorModule;
 import com.github.maximtereshchenko.conveyor.api.TaskCache;
 import com.github.maximtereshchenko.conveyor.compiler.Compiler;
@@ -34,7 +35,12 @@ final class ConveyorExtension implements ParameterResolver {
         var store = extensionContext.getStore(namespace);
         var conveyorModuleBuilder = store.getOrComputeIfAbsent(
             ConveyorModuleBuilder.class,
-            key -> new ConveyorModuleBuilder(jacksonAdapter, Runnable::run, TaskCache.ENABLED),
+            key -> new ConveyorModuleBuilder(
+                jacksonAdapter,
+                Runnable::run,
+                new ConcurrencyLimits(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE),
+                TaskCache.ENABLED
+            ),
             ConveyorModuleBuilder.class
         );
         store.getOrComputeIfAbsent(ConveyorModule.class, key -> conveyorModuleBuilder.build());
@@ -1,8 +1,11 @@
 package com.github.maximtereshchenko.conveyor.core;
 
+import com.github.maximtereshchenko.conveyor.api.ConcurrencyLimits;
 import com.github.maximtereshchenko.conveyor.api.ConveyorModule;
 import com.github.maximtereshchenko.conveyor.api.TaskCache;
+import com.github.maximtereshchenko.conveyor.api.TracingLevel;
 import com.github.maximtereshchenko.conveyor.api.port.SchematicDefinitionConverter;
+import com.github.maximtereshchenko.conveyor.api.port.TracingOutput;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
@@ -11,23 +14,66 @@ final class ConveyorModuleBuilder {
 
     private final SchematicDefinitionConverter schematicDefinitionConverter;
     private final Executor executor;
+    private final ConcurrencyLimits concurrencyLimits;
     private final TaskCache taskCache;
+    private final TracingOutput tracingOutput;
+    private final TracingLevel tracingLevel;
 
     ConveyorModuleBuilder(
         SchematicDefinitionConverter schematicDefinitionConverter,
         Executor executor,
+        ConcurrencyLimits concurrencyLimits,
         TaskCache taskCache
+    ) {
+        this(
+            schematicDefinitionConverter,
+            executor,
+            concurrencyLimits,
+            taskCache,
+            message -> {},
+            TracingLevel.SILENT
+        );
+    }
+
+    private ConveyorModuleBuilder(
+        SchematicDefinitionConverter schematicDefinitionConverter,
+        Executor executor,
+        ConcurrencyLimits concurrencyLimits,
+        TaskCache taskCache,
+        TracingOutput tracingOutput,
+        TracingLevel tracingLevel
     ) {
         this.schematicDefinitionConverter = schematicDefinitionConverter;
         this.executor = executor;
+        this.concurrencyLimits = concurrencyLimits;
         this.taskCache = taskCache;
+        this.tracingOutput = tracingOutput;
+        this.tracingLevel = tracingLevel;
     }
 
     ConveyorModuleBuilder parallel() {
         return new ConveyorModuleBuilder(
             schematicDefinitionConverter,
             Executors.newVirtualThreadPerTaskExecutor(),
-            taskCache
+            concurrencyLimits,
+            taskCache,
+            tracingOutput,
+            tracingLevel
+        );
+    }
+
+    ConveyorModuleBuilder maximumWorkers(int workers) {
+        return new ConveyorModuleBuilder(
+            schematicDefinitionConverter,
+            executor,
+            new ConcurrencyLimits(
+                workers,
+                concurrencyLimits.forks(),
+                concurrencyLimits.downloads()
+            ),
+            taskCache,
+            tracingOutput,
+            tracingLevel
         );
     }
 
@@ -35,11 +81,32 @@ final class ConveyorModuleBuilder {
         return new ConveyorModuleBuilder(
             schematicDefinitionConverter,
             executor,
-            TaskCache.DISABLED
+            concurrencyLimits,
+            TaskCache.DISABLED,
+            tracingOutput,
+            tracingLevel
+        );
+    }
+
+    ConveyorModuleBuilder tracing(TracingOutput tracingOutput) {
+        return new ConveyorModuleBuilder(
+            schematicDefinitionConverter,
+            executor,
+            concurrencyLimits,
+            taskCache,
+            tracingOutput,
+            TracingLevel.NORMAL
         );
     }
 
     ConveyorModule build() {
-        return new ConveyorModuleProxy(schematicDefinitionConverter, executor, taskCache);
+        return new ConveyorModuleProxy(
+            schematicDefinitionConverter,
+            executor,
+            concurrencyLimits,
+            taskCache,
+            tracingOutput,
+            tracingLevel
+        );
     }
 }
@@ -1,10 +1,12 @@
 package com.github.maximtereshchenko.conveyor.core;
 
+import com.github.maximtereshchenko.conveyor.api.ConcurrencyLimits;
 import com.github.maximtereshchenko.conveyor.api.ConveyorModule;
 import com.github.maximtereshchenko.conveyor.api.Stage;
 import com.github.maximtereshchenko.conveyor.api.TaskCache;
 import com.github.maximtereshchenko.conveyor.api.TracingLevel;
 import com.github.maximtereshchenko.conveyor.api.port.SchematicDefinitionConverter;
+import com.github.maximtereshchenko.conveyor.api.port.TracingOutput;
 
 import java.nio.file.Path;
 import java.util.List;
@@ -14,16 +16,25 @@ final class ConveyorModuleProxy implements ConveyorModule {
 
     private final SchematicDefinitionConverter schematicDefinitionConverter;
     private final Executor executor;
+    private final ConcurrencyLimits concurrencyLimits;
     private final TaskCache taskCache;
+    private final TracingOutput tracingOutput;
+    private final TracingLevel tracingLevel;
 
     ConveyorModuleProxy(
         SchematicDefinitionConverter schematicDefinitionConverter,
         Executor executor,
-        TaskCache taskCache
+        ConcurrencyLimits concurrencyLimits,
+        TaskCache taskCache,
+        TracingOutput tracingOutput,
+        TracingLevel tracingLevel
     ) {
         this.schematicDefinitionConverter = schematicDefinitionConverter;
         this.executor = executor;
+        this.concurrencyLimits = concurrencyLimits;
         this.taskCache = taskCache;
+        this.tracingOutput = tracingOutput;
+        this.tracingLevel = tracingLevel;
     }
 
     @Override
@@ -31,9 +42,10 @@ final class ConveyorModuleProxy implements ConveyorModule {
         ConveyorFacade.from(
                 schematicDefinitionConverter,
                 executor,
+                concurrencyLimits,
                 taskCache,
-                message -> {},
-                TracingLevel.SILENT
+                tracingOutput,
+                tracingLevel
             )
             .construct(path, stages);
     }
@@ -0,0 +1,67 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import com.github.maximtereshchenko.conveyor.api.TracingLevel;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class DefaultClasspathFactoryTests {
+
+    private static final int LAYERS = 30;
+
+    @Test
+    void givenDiamondHeavyGraph_whenClasspath_thenDependenciesAreRequestedOncePerArtifact() {
+        var calls = new AtomicInteger();
+        var classpathFactory = new DefaultClasspathFactory(
+            Runnable::run,
+            new Tracer(message -> {}, TracingLevel.SILENT)
+        );
+
+        var classpath = classpathFactory.classpath(
+            Set.of(new LayeredArtifact(0, 0, calls), new LayeredArtifact(0, 1, calls))
+        );
+
+        assertThat(classpath).hasSize(LAYERS * 2);
+        assertThat(calls).hasValue(LAYERS * 2);
+    }
+
+    private record LayeredArtifact(int layer, int index, AtomicInteger calls) implements Artifact {
+
+        @Override
+        public Id id() {
+            return new Id("group", "layer-%d-%d".formatted(layer, index));
+        }
+
+        @Override
+        public Version version() {
+            return new Version("1.0.0");
+        }
+
+        @Override
+        public Path path() {
+            return Paths.get(id().name() + ".jar");
+        }
+
+        @Override
+        public Set<Artifact> dependencies() {
+            calls.incrementAndGet();
+            if (layer == LAYERS - 1) {
+                return Set.of();
+            }
+            return Set.of(
+                new LayeredArtifact(layer + 1, 0, calls),
+                new LayeredArtifact(layer + 1, 1, calls)
+            );
+        }
+
+        @Override
+        public Set<Id> exclusions() {
+            return Set.of();
+        }
+    }
+}
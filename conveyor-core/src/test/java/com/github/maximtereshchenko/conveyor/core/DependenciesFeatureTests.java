@@ -7,7 +7,9 @@ import com.github.maximtereshchenko.conveyor.api.schematic.ExclusionDefinition;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Map;
 
@@ -409,4 +411,206 @@ final class DependenciesFeatureTests extends ConveyorTest {
             .hasLineCount(2)
             .contains("group-dependency-1.0.0", "transitive-1.0.0");
     }
+
+    @Test
+    void givenUnchangedSchematicDefinitions_whenConstructToStageAgain_thenClasspathIsRestoredFromResolutionSnapshot(
+        @TempDir Path path,
+        ConveyorModuleBuilder moduleBuilder,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("dependency")
+                    .dependency("transitive")
+            )
+            .jar(
+                factory.jarBuilder("dependency", path)
+            )
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("transitive")
+            )
+            .jar(
+                factory.jarBuilder("dependency", path)
+                    .name("transitive")
+            )
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("dependencies")
+            )
+            .jar(
+                factory.jarBuilder("dependencies", path)
+            )
+            .install(path);
+        var schematic = factory.schematicDefinitionBuilder()
+            .repository(path)
+            .plugin("dependencies")
+            .dependency("dependency")
+            .conveyorJson(path);
+        moduleBuilder.disabledTaskCache()
+            .build()
+            .construct(schematic, List.of(Stage.COMPILE));
+        var definition = path.resolve("group")
+            .resolve("dependency")
+            .resolve("1.0.0")
+            .resolve("dependency-1.0.0.json");
+        var lastModifiedTime = Files.getLastModifiedTime(definition);
+        Files.writeString(definition, " ".repeat((int) Files.size(definition)));
+        Files.setLastModifiedTime(definition, lastModifiedTime);
+        Files.delete(path.resolve("dependencies"));
+
+        moduleBuilder.disabledTaskCache()
+            .build()
+            .construct(schematic, List.of(Stage.COMPILE));
+
+        assertThat(path.resolve("dependencies"))
+            .content()
+            .hasLineCount(2)
+            .contains("group-dependency-1.0.0", "group-transitive-1.0.0");
+    }
+
+    @Test
+    void givenRepublishedDependencyDefinition_whenConstructToStageAgain_thenClasspathIsResolvedAgain(
+        @TempDir Path path,
+        ConveyorModuleBuilder moduleBuilder,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("dependency")
+                    .dependency("transitive")
+            )
+            .jar(
+                factory.jarBuilder("dependency", path)
+            )
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("transitive")
+            )
+            .jar(
+                factory.jarBuilder("dependency", path)
+                    .name("transitive")
+            )
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("dependencies")
+            )
+            .jar(
+                factory.jarBuilder("dependencies", path)
+            )
+            .install(path);
+        var schematic = factory.schematicDefinitionBuilder()
+            .repository(path)
+            .plugin("dependencies")
+            .dependency("dependency")
+            .conveyorJson(path);
+        moduleBuilder.disabledTaskCache()
+            .build()
+            .construct(schematic, List.of(Stage.COMPILE));
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("dependency")
+            )
+            .install(path);
+        Files.delete(path.resolve("dependencies"));
+
+        moduleBuilder.disabledTaskCache()
+            .build()
+            .construct(schematic, List.of(Stage.COMPILE));
+
+        assertThat(path.resolve("dependencies"))
+            .content()
+            .hasLineCount(1)
+            .contains("group-dependency-1.0.0");
+    }
+
+    @Test
+    void givenMalformedResolutionSnapshot_whenConstructToStageAgain_thenClasspathIsResolvedAgain(
+        @TempDir Path path,
+        ConveyorModuleBuilder moduleBuilder,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("dependency")
+            )
+            .jar(
+                factory.jarBuilder("dependency", path)
+            )
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("dependencies")
+            )
+            .jar(
+                factory.jarBuilder("dependencies", path)
+            )
+            .install(path);
+        var schematic = factory.schematicDefinitionBuilder()
+            .repository(path)
+            .plugin("dependencies")
+            .dependency("dependency")
+            .conveyorJson(path);
+        moduleBuilder.disabledTaskCache()
+            .build()
+            .construct(schematic, List.of(Stage.COMPILE));
+        Files.writeString(
+            path.resolve(".conveyor-cache").resolve("resolution"),
+            System.lineSeparator() + "malformed",
+            StandardOpenOption.APPEND
+        );
+        Files.delete(path.resolve("dependencies"));
+
+        moduleBuilder.disabledTaskCache()
+            .build()
+            .construct(schematic, List.of(Stage.COMPILE));
+
+        assertThat(path.resolve("dependencies"))
+            .content()
+            .hasLineCount(1)
+            .contains("group-dependency-1.0.0");
+    }
+
+    @Test
+    void givenResolutionSnapshotProperty_whenConstructToStage_thenSnapshotIsStoredInDefinedPath(
+        @TempDir Path path,
+        ConveyorModuleBuilder moduleBuilder,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("dependency")
+            )
+            .jar(
+                factory.jarBuilder("dependency", path)
+            )
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("dependencies")
+            )
+            .jar(
+                factory.jarBuilder("dependencies", path)
+            )
+            .install(path);
+        var snapshot = path.resolve("custom").resolve("snapshot");
+
+        moduleBuilder.disabledTaskCache()
+            .build()
+            .construct(
+                factory.schematicDefinitionBuilder()
+                    .repository(path)
+                    .property("conveyor.resolution.snapshot", "custom/snapshot")
+                    .plugin("dependencies")
+                    .dependency("dependency")
+                    .conveyorJson(path),
+                List.of(Stage.COMPILE)
+            );
+
+        assertThat(snapshot).exists();
+        assertThat(path.resolve(".conveyor-cache").resolve("resolution")).doesNotExist();
+    }
 }
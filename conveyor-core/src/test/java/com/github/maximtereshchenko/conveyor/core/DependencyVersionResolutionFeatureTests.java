@@ -355,6 +355,77 @@ final class DependencyVersionResolutionFeatureTests extends ConveyorTest {
             .contains("group-first-1.0.0", "second-1.0.0", "group-dependency-2.0.0");
     }
 
+    @Test
+    void givenParallelResolution_whenConstructToStage_thenDependencyIsUsedWithHighestVersion(
+        @TempDir Path path,
+        ConveyorModuleBuilder moduleBuilder,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("dependencies")
+            )
+            .jar(
+                factory.jarBuilder("dependencies", path)
+            )
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("first")
+                    .dependency("dependency")
+            )
+            .jar(
+                factory.jarBuilder("dependency", path)
+                    .name("first")
+            )
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("second")
+                    .dependency(
+                        "group",
+                        "dependency",
+                        "2.0.0",
+                        DependencyScope.IMPLEMENTATION
+                    )
+            )
+            .jar(
+                factory.jarBuilder("dependency", path)
+                    .name("second")
+            )
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("dependency")
+            )
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("dependency")
+                    .version("2.0.0")
+            )
+            .jar(
+                factory.jarBuilder("dependency", path)
+                    .name("dependency")
+                    .version("2.0.0")
+            )
+            .install(path);
+
+        moduleBuilder.parallel()
+            .build()
+            .construct(
+                factory.schematicDefinitionBuilder()
+                    .repository(path)
+                    .plugin("dependencies")
+                    .dependency("first")
+                    .dependency("second")
+                    .conveyorJson(path),
+                List.of(Stage.COMPILE)
+            );
+
+        assertThat(path.resolve("dependencies"))
+            .content(StandardCharsets.UTF_8)
+            .hasLineCount(3)
+            .contains("group-first-1.0.0", "second-1.0.0", "group-dependency-2.0.0");
+    }
+
     @Test
     void givenHighestDependencyVersionRequiredByExcludedDependency_whenConstructToStage_thenDependencyIsUsedWithLowerVersion(
         @TempDir Path path,
@@ -6,13 +6,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import static com.github.maximtereshchenko.conveyor.common.test.MoreAssertions.assertThat;
+import static com.github.maximtereshchenko.conveyor.common.test.MoreAssertions.assertThatThrownBy;
 
 final class ParallelConstructionFeatureTests extends ConveyorTest {
 
@@ -81,6 +85,384 @@ final class ParallelConstructionFeatureTests extends ConveyorTest {
             .isLessThan(duration(moduleBuilder.build(), template, projectDepth2b));
     }
 
+    @Test
+    void givenIndependentTasks_whenConstructToStage_thenTasksAreExecutedInParallel(
+        @TempDir Path path,
+        ConveyorModuleBuilder moduleBuilder,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("independent")
+            )
+            .jar(
+                factory.jarBuilder("independent", path)
+            )
+            .install(path);
+
+        moduleBuilder.parallel()
+            .build()
+            .construct(
+                factory.schematicDefinitionBuilder()
+                    .repository(path)
+                    .plugin(
+                        "group",
+                        "independent",
+                        "1.0.0",
+                        Map.of(
+                            "first", "COMPILE-RUN",
+                            "second", "COMPILE-RUN"
+                        )
+                    )
+                    .conveyorJson(path),
+                List.of(Stage.COMPILE)
+            );
+
+        var first = instant(path.resolve("first"));
+        var second = instant(path.resolve("second"));
+        assertThat(Duration.between(first, second).abs()).isLessThan(Duration.ofMillis(100));
+    }
+
+    @Test
+    void givenMaximumWorkers_whenConstructToStage_thenIndependentTasksAreExecutedWithinLimit(
+        @TempDir Path path,
+        ConveyorModuleBuilder moduleBuilder,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("independent")
+            )
+            .jar(
+                factory.jarBuilder("independent", path)
+            )
+            .install(path);
+
+        moduleBuilder.parallel()
+            .maximumWorkers(1)
+            .build()
+            .construct(
+                factory.schematicDefinitionBuilder()
+                    .repository(path)
+                    .plugin(
+                        "group",
+                        "independent",
+                        "1.0.0",
+                        Map.of(
+                            "first", "COMPILE-RUN",
+                            "second", "COMPILE-RUN"
+                        )
+                    )
+                    .conveyorJson(path),
+                List.of(Stage.COMPILE)
+            );
+
+        var first = instant(path.resolve("first"));
+        var second = instant(path.resolve("second"));
+        assertThat(Duration.between(first, second).abs())
+            .isGreaterThanOrEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    void givenSchematic_whenConstructToStage_thenTaskExecutionDurationIsRecorded(
+        @TempDir Path path,
+        ConveyorModule module,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("independent")
+            )
+            .jar(
+                factory.jarBuilder("independent", path)
+            )
+            .install(path);
+
+        module.construct(
+            factory.schematicDefinitionBuilder()
+                .repository(path)
+                .plugin(
+                    "group",
+                    "independent",
+                    "1.0.0",
+                    Map.of("first", "COMPILE-RUN")
+                )
+                .conveyorJson(path),
+            List.of(Stage.COMPILE)
+        );
+
+        assertThat(
+            Files.readString(
+                defaultCacheDirectory(path)
+                    .resolve("tasks")
+                    .resolve("group")
+                    .resolve("project")
+                    .resolve(".durations")
+            )
+        )
+            .containsPattern("\\d{3,} tasks");
+    }
+
+    @Test
+    void givenTaskDependsOnOutputOfAnotherTask_whenConstructToStage_thenTaskIsExecutedAfterAnotherTask(
+        @TempDir Path path,
+        ConveyorModuleBuilder moduleBuilder,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("independent")
+            )
+            .jar(
+                factory.jarBuilder("independent", path)
+            )
+            .install(path);
+
+        moduleBuilder.parallel()
+            .build()
+            .construct(
+                factory.schematicDefinitionBuilder()
+                    .repository(path)
+                    .plugin(
+                        "group",
+                        "independent",
+                        "1.0.0",
+                        Map.of(
+                            "first", "COMPILE-PREPARE",
+                            "second", "COMPILE-RUN-first"
+                        )
+                    )
+                    .conveyorJson(path),
+                List.of(Stage.COMPILE)
+            );
+
+        var first = instant(path.resolve("first"));
+        var second = instant(path.resolve("second"));
+        assertThat(Duration.between(first, second)).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    void givenDependencyPublishedDuringCompilation_whenConstructToStage_thenSchematicIsCompiledWhileDependencyIsTested(
+        @TempDir Path path,
+        ConveyorModuleBuilder moduleBuilder,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("instant")
+            )
+            .jar(
+                factory.jarBuilder("instant", path)
+            )
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("artifact")
+            )
+            .jar(
+                factory.jarBuilder("artifact", path)
+            )
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("dependency")
+            )
+            .jar(
+                factory.jarBuilder("dependency", path)
+            )
+            .install(path);
+        var depends = path.resolve("depends");
+        var dependency = path.resolve("dependency");
+
+        moduleBuilder.parallel()
+            .build()
+            .construct(
+                factory.schematicDefinitionBuilder()
+                    .name("template")
+                    .repository(path)
+                    .inclusion(
+                        factory.schematicDefinitionBuilder()
+                            .name("depends")
+                            .template("template")
+                            .dependency("dependency")
+                            .conveyorJson(depends)
+                    )
+                    .inclusion(
+                        factory.schematicDefinitionBuilder()
+                            .name("dependency")
+                            .template("template")
+                            .plugin(
+                                "group",
+                                "artifact",
+                                "1.0.0",
+                                Map.of(
+                                    "stage", "COMPILE",
+                                    "path", path.resolve("group")
+                                        .resolve("dependency")
+                                        .resolve("1.0.0")
+                                        .resolve("dependency-1.0.0.jar")
+                                        .toString()
+                                )
+                            )
+                            .conveyorJson(dependency)
+                    )
+                    .plugin(
+                        "group",
+                        "instant",
+                        "1.0.0",
+                        Map.of(
+                            "compiled", "COMPILE-RUN",
+                            "prepared", "TEST-PREPARE",
+                            "tested", "TEST-RUN"
+                        )
+                    )
+                    .conveyorJson(path),
+                List.of(Stage.TEST)
+            );
+
+        assertThat(instant(depends.resolve("compiled")))
+            .isBefore(instant(dependency.resolve("tested")));
+    }
+
+    @Test
+    void givenTaskFailed_whenConstructToStage_thenTasksReadyAfterFailureAreNotExecuted(
+        @TempDir Path path,
+        ConveyorModuleBuilder moduleBuilder,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("independent")
+            )
+            .jar(
+                factory.jarBuilder("independent", path)
+            )
+            .install(path);
+        var module = moduleBuilder.parallel().build();
+        var conveyorJson = factory.schematicDefinitionBuilder()
+            .repository(path)
+            .plugin(
+                "group",
+                "independent",
+                "1.0.0",
+                Map.of(
+                    "failing", "COMPILE-PREPARE",
+                    "first", "COMPILE-PREPARE",
+                    "second", "COMPILE-RUN-first"
+                )
+            )
+            .conveyorJson(path);
+        var stages = List.of(Stage.COMPILE);
+
+        assertThatThrownBy(() -> module.construct(conveyorJson, stages))
+            .hasMessageContaining("failing");
+        assertThat(path.resolve("first")).exists();
+        assertThat(path.resolve("second")).doesNotExist();
+    }
+
+    @Test
+    void givenStagesInDescendingOrder_whenConstructToStages_thenStagesAreExecutedInRequestedOrder(
+        @TempDir Path path,
+        ConveyorModuleBuilder moduleBuilder,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("independent")
+            )
+            .jar(
+                factory.jarBuilder("independent", path)
+            )
+            .install(path);
+
+        moduleBuilder.parallel()
+            .build()
+            .construct(
+                factory.schematicDefinitionBuilder()
+                    .repository(path)
+                    .plugin(
+                        "group",
+                        "independent",
+                        "1.0.0",
+                        Map.of(
+                            "clean", "CLEAN-RUN",
+                            "test", "TEST-RUN"
+                        )
+                    )
+                    .conveyorJson(path),
+                List.of(Stage.TEST, Stage.CLEAN)
+            );
+
+        assertThat(instant(path.resolve("clean"))).isAfter(instant(path.resolve("test")));
+    }
+
+    @Test
+    void givenSchematicDependency_whenConstructToStage_thenCriticalPathIsTraced(
+        @TempDir Path path,
+        ConveyorModuleBuilder moduleBuilder,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("independent")
+            )
+            .jar(
+                factory.jarBuilder("independent", path)
+            )
+            .install(path);
+        var messages = Collections.synchronizedList(new ArrayList<String>());
+
+        moduleBuilder.parallel()
+            .tracing(messages::add)
+            .build()
+            .construct(
+                factory.schematicDefinitionBuilder()
+                    .name("template")
+                    .repository(path)
+                    .inclusion(
+                        factory.schematicDefinitionBuilder()
+                            .name("first")
+                            .template("template")
+                            .plugin(
+                                "group",
+                                "independent",
+                                "1.0.0",
+                                Map.of("first", "COMPILE-RUN")
+                            )
+                            .conveyorJson(path.resolve("first"))
+                    )
+                    .inclusion(
+                        factory.schematicDefinitionBuilder()
+                            .name("second")
+                            .template("template")
+                            .dependency("first")
+                            .plugin(
+                                "group",
+                                "independent",
+                                "1.0.0",
+                                Map.of("second", "COMPILE-RUN")
+                            )
+                            .conveyorJson(path.resolve("second"))
+                    )
+                    .conveyorJson(path),
+                List.of(Stage.COMPILE)
+            );
+
+        assertThat(messages)
+            .anyMatch(message ->
+                message.matches(
+                    ".*Critical path group:template \\(\\d+ms\\) -> " +
+                    "group:first \\(\\d+ms\\) -> group:second \\(\\d+ms\\).*"
+                )
+            );
+    }
+
     private Duration duration(ConveyorModule module, Path schematic, Path instantDirectory)
         throws IOException {
         var now = Instant.now();
@@ -0,0 +1,43 @@
+package com.github.maximtereshchenko.conveyor.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class PermitsTests {
+
+    @Test
+    void givenWaitersWithDifferentPriorities_whenRelease_thenHighestPriorityWaiterIsGrantedFirst()
+        throws InterruptedException {
+        var permits = new Permits(1);
+        var order = Collections.synchronizedList(new ArrayList<String>());
+        permits.acquire();
+        var threads = List.of(
+            waiting(permits, 1, "low", order),
+            waiting(permits, 5, "high", order),
+            waiting(permits, 3, "medium", order),
+            waiting(permits, 5, "high-later", order)
+        );
+
+        permits.release();
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        assertThat(order).containsExactly("high", "high-later", "medium", "low");
+    }
+
+    private Thread waiting(Permits permits, long priority, String name, List<String> order)
+        throws InterruptedException {
+        var thread = Thread.ofPlatform()
+            .start(() -> permits.execute(priority, () -> order.add(name)));
+        while (thread.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        return thread;
+    }
+}
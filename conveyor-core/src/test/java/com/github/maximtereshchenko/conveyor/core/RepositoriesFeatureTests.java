@@ -4,6 +4,8 @@ import com.github.maximtereshchenko.conveyor.api.ConveyorModule;
 import com.github.maximtereshchenko.conveyor.api.Stage;
 import com.github.maximtereshchenko.conveyor.api.schematic.DependencyScope;
 import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -20,6 +23,10 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 
 import static com.github.maximtereshchenko.conveyor.common.test.MoreAssertions.*;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.serverError;
 
 @ExtendWith(WireMockExtension.class)
 final class RepositoriesFeatureTests extends ConveyorTest {
@@ -218,6 +225,175 @@ final class RepositoriesFeatureTests extends ConveyorTest {
         assertThat(path.resolve("instant")).exists();
     }
 
+    @Test
+    void givenServerError_whenConstructToStage_thenArtifactDownloadIsRetried(
+        @TempDir Path path,
+        ConveyorModule module,
+        BuilderFactory factory,
+        WireMockServer wireMockServer
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .jar(
+                factory.jarBuilder("instant", path)
+            )
+            .pom(
+                factory.pomBuilder()
+                    .artifactId("instant")
+            )
+            .install(wireMockServer);
+        wireMockServer.addStubMapping(
+            get("/group/instant/1.0.0/instant-1.0.0.jar")
+                .inScenario("retry")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(serverError())
+                .willSetStateTo("recovered")
+                .build()
+        );
+
+        module.construct(
+            factory.schematicDefinitionBuilder()
+                .repository("remote", wireMockServer.baseUrl())
+                .plugin(
+                    "group",
+                    "instant",
+                    "1.0.0",
+                    Map.of("instant", "COMPILE-RUN")
+                )
+                .conveyorJson(path),
+            List.of(Stage.COMPILE)
+        );
+
+        assertThat(wireMockServer.getServeEvents().getRequests())
+            .filteredOn(serveEvent -> serveEvent.getRequest().getUrl().endsWith(".jar"))
+            .hasSize(2);
+        assertThat(path.resolve("instant")).exists();
+    }
+
+    @Test
+    void givenFailureDuringBodyTransfer_whenConstructToStage_thenArtifactDownloadIsRetried(
+        @TempDir Path path,
+        ConveyorModule module,
+        BuilderFactory factory,
+        WireMockServer wireMockServer
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .jar(
+                factory.jarBuilder("instant", path)
+            )
+            .pom(
+                factory.pomBuilder()
+                    .artifactId("instant")
+            )
+            .install(wireMockServer);
+        wireMockServer.addStubMapping(
+            get("/group/instant/1.0.0/instant-1.0.0.jar")
+                .inScenario("retry")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse().withFault(Fault.MALFORMED_RESPONSE_CHUNK))
+                .willSetStateTo("recovered")
+                .build()
+        );
+
+        module.construct(
+            factory.schematicDefinitionBuilder()
+                .repository("remote", wireMockServer.baseUrl())
+                .plugin(
+                    "group",
+                    "instant",
+                    "1.0.0",
+                    Map.of("instant", "COMPILE-RUN")
+                )
+                .conveyorJson(path),
+            List.of(Stage.COMPILE)
+        );
+
+        assertThat(wireMockServer.getServeEvents().getRequests())
+            .filteredOn(serveEvent -> serveEvent.getRequest().getUrl().endsWith(".jar"))
+            .hasSize(2);
+        assertThat(path.resolve("instant")).exists();
+    }
+
+    @Test
+    void givenChecksumMismatch_whenConstructToStage_thenArtifactIsNotCached(
+        @TempDir Path path,
+        ConveyorModule module,
+        BuilderFactory factory,
+        WireMockServer wireMockServer
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .jar(
+                factory.jarBuilder("instant", path)
+            )
+            .pom(
+                factory.pomBuilder()
+                    .artifactId("instant")
+            )
+            .install(wireMockServer);
+        wireMockServer.addStubMapping(
+            get("/group/instant/1.0.0/instant-1.0.0.jar")
+                .willReturn(ok().withBody("corrupted"))
+                .build()
+        );
+        wireMockServer.addStubMapping(
+            get("/group/instant/1.0.0/instant-1.0.0.jar.sha1")
+                .willReturn(ok().withBody("0000000000000000000000000000000000000000"))
+                .build()
+        );
+        var conveyorJson = factory.schematicDefinitionBuilder()
+            .repository("remote", wireMockServer.baseUrl())
+            .plugin(
+                "group",
+                "instant",
+                "1.0.0",
+                Map.of("instant", "COMPILE-RUN")
+            )
+            .conveyorJson(path);
+        var stages = List.of(Stage.COMPILE);
+
+        assertThatThrownBy(() -> module.construct(conveyorJson, stages))
+            .isInstanceOf(UncheckedIOException.class)
+            .hasMessageContaining("instant-1.0.0.jar");
+        assertThat(defaultCacheDirectory(path))
+            .isDirectoryRecursivelyNotContaining("glob:**instant-1.0.0.jar");
+    }
+
+    @Test
+    void givenArtifactMissingInRemoteRepository_whenConstructToStageAgain_thenRemoteRepositoryIsNotRequested(
+        @TempDir Path path,
+        ConveyorModule module,
+        BuilderFactory factory,
+        WireMockServer wireMockServer
+    ) throws Exception {
+        var repository = path.resolve("repository");
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("instant")
+            )
+            .jar(
+                factory.jarBuilder("instant", path)
+            )
+            .install(repository);
+        var schematic = factory.schematicDefinitionBuilder()
+            .repository("remote", wireMockServer.baseUrl())
+            .repository("local", repository)
+            .plugin(
+                "group",
+                "instant",
+                "1.0.0",
+                Map.of("instant", "COMPILE-RUN")
+            )
+            .conveyorJson(path);
+
+        module.construct(schematic, List.of(Stage.COMPILE));
+        module.construct(schematic, List.of(Stage.COMPILE));
+
+        assertThat(wireMockServer.getServeEvents().getRequests())
+            .filteredOn(serveEvent -> serveEvent.getRequest().getUrl().contains("instant"))
+            .hasSize(2);
+        assertThat(path.resolve("instant")).exists();
+    }
+
     @Test
     void givenRemoteRepository_whenConstructToStage_thenArtifactsAreCachedInDefaultDirectory(
         @TempDir Path path,
@@ -256,6 +432,60 @@ final class RepositoriesFeatureTests extends ConveyorTest {
             .isDirectoryRecursivelyContaining("glob:**instant-1.0.0.pom");
     }
 
+    @Test
+    void givenSchematicsConstructedInParallel_whenConstructToStage_thenArtifactsAreDownloadedOnce(
+        @TempDir Path path,
+        ConveyorModuleBuilder moduleBuilder,
+        BuilderFactory factory,
+        WireMockServer wireMockServer
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .jar(
+                factory.jarBuilder("instant", path)
+            )
+            .pom(
+                factory.pomBuilder()
+                    .artifactId("instant")
+            )
+            .install(wireMockServer);
+        var first = path.resolve("first");
+        var second = path.resolve("second");
+
+        moduleBuilder.parallel()
+            .build()
+            .construct(
+                factory.schematicDefinitionBuilder()
+                    .name("template")
+                    .repository("remote", wireMockServer.baseUrl())
+                    .plugin(
+                        "group",
+                        "instant",
+                        "1.0.0",
+                        Map.of("instant", "COMPILE-RUN")
+                    )
+                    .inclusion(
+                        factory.schematicDefinitionBuilder()
+                            .name("first")
+                            .template("template")
+                            .conveyorJson(first)
+                    )
+                    .inclusion(
+                        factory.schematicDefinitionBuilder()
+                            .name("second")
+                            .template("template")
+                            .conveyorJson(second)
+                    )
+                    .conveyorJson(path),
+                List.of(Stage.COMPILE)
+            );
+
+        assertThat(wireMockServer.getServeEvents().getRequests())
+            .filteredOn(serveEvent -> serveEvent.getRequest().getUrl().contains("instant"))
+            .hasSize(2);
+        assertThat(first.resolve("instant")).exists();
+        assertThat(second.resolve("instant")).exists();
+    }
+
     @Test
     void givenRemoteRepositoryCacheDirectoryProperty_whenConstructToStage_thenArtifactsAreCachedInSpecifiedDirectory(
         @TempDir Path path,
@@ -8,7 +8,10 @@ import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.Set;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
@@ -64,17 +67,25 @@ final class RepositoryBuilder {
 
     void install(WireMockServer wireMockServer) throws IOException {
         for (var uri : uris) {
-            try (var inputStream = Files.newInputStream(path(uri))) {
-                wireMockServer.addStubMapping(
-                    get("/" + uri)
-                        .willReturn(
-                            ok()
-                                .withHeader("Content-Type", contentType(uri))
-                                .withBody(inputStream.readAllBytes())
-                        )
-                        .build()
-                );
-            }
+            var bytes = Files.readAllBytes(path(uri));
+            wireMockServer.addStubMapping(
+                get("/" + uri)
+                    .willReturn(
+                        ok()
+                            .withHeader("Content-Type", contentType(uri))
+                            .withHeader("X-Checksum-Sha1", sha1(bytes))
+                            .withBody(bytes)
+                    )
+                    .build()
+            );
+        }
+    }
+
+    private String sha1(byte[] bytes) throws IOException {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
         }
     }
 
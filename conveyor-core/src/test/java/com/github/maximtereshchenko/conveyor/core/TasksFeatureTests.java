@@ -4,19 +4,31 @@ import com.github.maximtereshchenko.conveyor.api.ConveyorModule;
 import com.github.maximtereshchenko.conveyor.api.Stage;
 import com.github.maximtereshchenko.conveyor.api.schematic.DependencyScope;
 import com.github.maximtereshchenko.conveyor.files.FileTree;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
 import static com.github.maximtereshchenko.conveyor.common.test.MoreAssertions.assertThat;
 import static com.github.maximtereshchenko.conveyor.common.test.MoreAssertions.assertThatCode;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.put;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
 
+@ExtendWith(WireMockExtension.class)
 final class TasksFeatureTests extends ConveyorTest {
 
     @Test
@@ -468,9 +480,14 @@ final class TasksFeatureTests extends ConveyorTest {
             .resolve("group")
             .resolve("project")
             .resolve("cache");
-        assertThat(cache.resolve("0").resolve("output")).exists();
+        assertThat(
+            cache.resolve("5d")
+                .resolve("f6e0e2761359d30a8275058e299fcc0381534545f55cf43e41983f5d4c9456")
+        )
+            .isRegularFile();
         assertThat(cache.resolve("inputs")).exists();
         assertThat(cache.resolve("outputs")).exists();
+        assertThat(path.resolve(".conveyor-cache").resolve("blobs")).isNotEmptyDirectory();
     }
 
     @Test
@@ -497,11 +514,49 @@ final class TasksFeatureTests extends ConveyorTest {
             .conveyorJson(path), List.of(Stage.COMPILE));
 
         var cache = customCacheDirectory.resolve("cache");
-        assertThat(cache.resolve("0").resolve("output")).exists();
+        assertThat(
+            cache.resolve("5d")
+                .resolve("f6e0e2761359d30a8275058e299fcc0381534545f55cf43e41983f5d4c9456")
+        )
+            .isRegularFile();
         assertThat(cache.resolve("inputs")).exists();
         assertThat(cache.resolve("outputs")).exists();
     }
 
+    @Test
+    void givenTaskCacheHashAlgorithmProperty_whenConstructToStage_thenCacheIsKeyedWithSpecifiedAlgorithm(
+        @TempDir Path path,
+        ConveyorModule module,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("cache")
+            )
+            .jar(
+                factory.jarBuilder("cache", path)
+            )
+            .install(path);
+
+        module.construct(factory.schematicDefinitionBuilder()
+            .repository(path)
+            .plugin("cache")
+            .property("conveyor.tasks.cache.hash.algorithm", "SHA-1")
+            .conveyorJson(path), List.of(Stage.COMPILE));
+
+        assertThat(
+            defaultCacheDirectory(path)
+                .resolve("tasks")
+                .resolve("group")
+                .resolve("project")
+                .resolve("cache")
+                .resolve("be")
+                .resolve("1bdec0aa74b4dcb079943e70528096cca985f8")
+        )
+            .isRegularFile();
+    }
+
     @Test
     void givenCacheableTaskInputChanged_whenConstructToStage_thenTaskExecutedDuringNextConstruction(
         @TempDir Path path,
@@ -531,6 +586,48 @@ final class TasksFeatureTests extends ConveyorTest {
         assertThat(instant(output)).isNotEqualTo(instant);
     }
 
+    @Test
+    void givenCacheableTaskInputMetadataUnchanged_whenConstructToStage_thenRecordedHashIsReused(
+        @TempDir Path path,
+        ConveyorModule module,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("cache")
+            )
+            .jar(
+                factory.jarBuilder("cache", path)
+            )
+            .install(path);
+        var conveyorJson = factory.schematicDefinitionBuilder()
+            .repository(path)
+            .plugin("cache")
+            .conveyorJson(path);
+        var output = path.resolve("output").resolve("instant");
+        var input = Files.writeString(path.resolve("input"), "initial");
+        var lastModifiedTime = FileTime.from(Instant.now().minus(Duration.ofHours(1)));
+        Files.setLastModifiedTime(input, lastModifiedTime);
+
+        module.construct(conveyorJson, List.of(Stage.COMPILE));
+        var instant = instant(output);
+        Files.writeString(input, "changed");
+        Files.setLastModifiedTime(input, lastModifiedTime);
+        module.construct(conveyorJson, List.of(Stage.COMPILE));
+
+        assertThat(instant(output)).isEqualTo(instant);
+        assertThat(
+            defaultCacheDirectory(path)
+                .resolve("tasks")
+                .resolve("group")
+                .resolve("project")
+                .resolve("cache")
+                .resolve("files")
+        )
+            .exists();
+    }
+
     @Test
     void givenTaskCachedOutputs_whenConstructToStage_thenTaskIsNotExecutedAndOutputsAreCopied(
         @TempDir Path path,
@@ -560,6 +657,350 @@ final class TasksFeatureTests extends ConveyorTest {
         assertThat(instant(output)).isEqualTo(instant);
     }
 
+    @Test
+    void givenTaskCacheBlobsDirectoryProperty_whenConstructToStage_thenOutputsAreStoredInSpecifiedDirectory(
+        @TempDir Path path,
+        ConveyorModule module,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("cache")
+            )
+            .jar(
+                factory.jarBuilder("cache", path)
+            )
+            .install(path);
+        var customBlobsDirectory = path.resolve("custom-blobs-directory");
+
+        module.construct(factory.schematicDefinitionBuilder()
+            .repository(path)
+            .plugin("cache")
+            .property("conveyor.tasks.cache.blobs.directory", customBlobsDirectory.toString())
+            .conveyorJson(path), List.of(Stage.COMPILE));
+
+        assertThat(customBlobsDirectory).isNotEmptyDirectory();
+    }
+
+    @Test
+    void givenTaskCacheMaximumSizeExceeded_whenConstructToStage_thenBlobsNotAccessedDuringConstructionAreEvicted(
+        @TempDir Path path,
+        ConveyorModule module,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("cache")
+            )
+            .jar(
+                factory.jarBuilder("cache", path)
+            )
+            .install(path);
+        var blobsDirectory = path.resolve("blobs");
+        var conveyorJson = factory.schematicDefinitionBuilder()
+            .repository(path)
+            .plugin("cache")
+            .property("conveyor.tasks.cache.blobs.directory", blobsDirectory.toString())
+            .property("conveyor.tasks.cache.maximum.size", "0")
+            .conveyorJson(path);
+
+        module.construct(conveyorJson, List.of(Stage.COMPILE));
+        var blobs = new FileTree(blobsDirectory).files();
+        for (var blob : blobs) {
+            Files.getFileAttributeView(blob, BasicFileAttributeView.class)
+                .setTimes(null, FileTime.from(Instant.now().minus(Duration.ofHours(1))), null);
+        }
+        module.construct(conveyorJson, List.of(Stage.COMPILE));
+
+        assertThat(blobs).isNotEmpty();
+        assertThat(new FileTree(blobsDirectory).files()).isEmpty();
+    }
+
+    @Test
+    void givenTaskCacheMaximumSizeExceeded_whenConstructToStage_thenManifestsOfEvictedBlobsAreEvicted(
+        @TempDir Path path,
+        ConveyorModule module,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("cache")
+            )
+            .jar(
+                factory.jarBuilder("cache", path)
+            )
+            .install(path);
+        var tasksDirectory = path.resolve("tasks");
+        var blobsDirectory = path.resolve("blobs");
+        var conveyorJson = factory.schematicDefinitionBuilder()
+            .repository(path)
+            .plugin("cache")
+            .property("conveyor.tasks.cache.directory", tasksDirectory.toString())
+            .property("conveyor.tasks.cache.blobs.directory", blobsDirectory.toString())
+            .property("conveyor.tasks.cache.maximum.size", "0")
+            .conveyorJson(path);
+
+        module.construct(conveyorJson, List.of(Stage.COMPILE));
+        var cache = tasksDirectory.resolve("cache");
+        var manifests = new FileTree(cache).files()
+            .stream()
+            .filter(file -> cache.relativize(file).getNameCount() == 2)
+            .toList();
+        for (var blob : new FileTree(blobsDirectory).files()) {
+            Files.getFileAttributeView(blob, BasicFileAttributeView.class)
+                .setTimes(null, FileTime.from(Instant.now().minus(Duration.ofHours(1))), null);
+        }
+        module.construct(conveyorJson, List.of(Stage.COMPILE));
+
+        assertThat(manifests)
+            .isNotEmpty()
+            .allSatisfy(manifest -> assertThat(manifest).doesNotExist());
+        assertThat(cache.resolve("files")).doesNotExist();
+    }
+
+    @Test
+    void givenStaleTemporaryFileInBlobsDirectory_whenConstructToStage_thenTemporaryFileIsEvicted(
+        @TempDir Path path,
+        ConveyorModule module,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("cache")
+            )
+            .jar(
+                factory.jarBuilder("cache", path)
+            )
+            .install(path);
+        var blobsDirectory = path.resolve("blobs");
+        var temporary = blobsDirectory.resolve("00").resolve("temporary.tmp");
+        new FileTree(temporary).write("temporary");
+        Files.setLastModifiedTime(
+            temporary,
+            FileTime.from(Instant.now().minus(Duration.ofHours(1)))
+        );
+
+        module.construct(
+            factory.schematicDefinitionBuilder()
+                .repository(path)
+                .plugin("cache")
+                .property("conveyor.tasks.cache.blobs.directory", blobsDirectory.toString())
+                .conveyorJson(path),
+            List.of(Stage.COMPILE)
+        );
+
+        assertThat(temporary).doesNotExist();
+        assertThat(blobsDirectory).isNotEmptyDirectory();
+    }
+
+    @Test
+    void givenTaskCacheRemoteUriProperty_whenConstructToStage_thenOutputsAreUploaded(
+        @TempDir Path path,
+        ConveyorModule module,
+        BuilderFactory factory,
+        WireMockServer wireMockServer
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("cache")
+            )
+            .jar(
+                factory.jarBuilder("cache", path)
+            )
+            .install(path);
+        wireMockServer.addStubMapping(put(urlPathMatching("/cache/.*")).willReturn(ok()).build());
+
+        module.construct(factory.schematicDefinitionBuilder()
+            .repository(path)
+            .plugin("cache")
+            .property("conveyor.tasks.cache.remote.uri", wireMockServer.baseUrl())
+            .conveyorJson(path), List.of(Stage.COMPILE));
+
+        assertThat(wireMockServer.getServeEvents().getRequests())
+            .filteredOn(serveEvent ->
+                serveEvent.getRequest().getMethod().equals(RequestMethod.PUT)
+            )
+            .hasSize(1);
+    }
+
+    @Test
+    void givenOutputsInRemoteTaskCache_whenConstructToStage_thenTaskIsNotExecutedAndOutputsAreDownloaded(
+        @TempDir Path path,
+        ConveyorModule module,
+        BuilderFactory factory,
+        WireMockServer wireMockServer
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("cache")
+            )
+            .jar(
+                factory.jarBuilder("cache", path)
+            )
+            .install(path);
+        wireMockServer.addStubMapping(put(urlPathMatching("/cache/.*")).willReturn(ok()).build());
+        var conveyorJson = factory.schematicDefinitionBuilder()
+            .repository(path)
+            .plugin("cache")
+            .property("conveyor.tasks.cache.remote.uri", wireMockServer.baseUrl())
+            .conveyorJson(path);
+        var output = path.resolve("output").resolve("instant");
+
+        module.construct(conveyorJson, List.of(Stage.COMPILE));
+        var instant = instant(output);
+        var uploaded = wireMockServer.getServeEvents()
+            .getRequests()
+            .stream()
+            .map(ServeEvent::getRequest)
+            .filter(request -> request.getMethod().equals(RequestMethod.PUT))
+            .findAny()
+            .orElseThrow();
+        wireMockServer.addStubMapping(
+            get(uploaded.getUrl()).willReturn(ok().withBody(uploaded.getBody())).build()
+        );
+        new FileTree(path.resolve(".conveyor-cache")).delete();
+        new FileTree(path.resolve("output")).delete();
+        module.construct(conveyorJson, List.of(Stage.COMPILE));
+
+        assertThat(instant(output)).isEqualTo(instant);
+    }
+
+    @Test
+    void givenSameSchematicInDifferentDirectories_whenConstructToStage_thenCachedOutputsAreShared(
+        @TempDir Path path,
+        ConveyorModule module,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("cache")
+            )
+            .jar(
+                factory.jarBuilder("cache", path)
+            )
+            .install(path);
+        var tasks = path.resolve("shared").resolve("tasks");
+        var blobs = path.resolve("shared").resolve("blobs");
+        var first = path.resolve("first");
+        var second = path.resolve("second");
+        for (var directory : List.of(first, second)) {
+            new FileTree(directory.resolve("input").resolve("file")).write("input");
+            factory.schematicDefinitionBuilder()
+                .repository(path)
+                .plugin("cache")
+                .property("conveyor.tasks.cache.directory", tasks.toString())
+                .property("conveyor.tasks.cache.blobs.directory", blobs.toString())
+                .conveyorJson(directory);
+        }
+
+        module.construct(first.resolve("conveyor.json"), List.of(Stage.COMPILE));
+        module.construct(second.resolve("conveyor.json"), List.of(Stage.COMPILE));
+
+        assertThat(instant(second.resolve("output"), "instant"))
+            .isEqualTo(instant(first.resolve("output"), "instant"));
+    }
+
+    @Test
+    void givenRestoredOutputModifiedInPlace_whenConstructToStage_thenModifiedOutputIsNotRestored(
+        @TempDir Path path,
+        ConveyorModule module,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("cache")
+            )
+            .jar(
+                factory.jarBuilder("cache", path)
+            )
+            .install(path);
+        var conveyorJson = factory.schematicDefinitionBuilder()
+            .repository(path)
+            .plugin("cache")
+            .conveyorJson(path);
+        var output = path.resolve("output").resolve("instant");
+
+        module.construct(conveyorJson, List.of(Stage.COMPILE));
+        new FileTree(path.resolve("output")).delete();
+        module.construct(conveyorJson, List.of(Stage.COMPILE));
+        Files.writeString(output, Instant.EPOCH.toString());
+        new FileTree(path.resolve("output")).delete();
+        module.construct(conveyorJson, List.of(Stage.COMPILE));
+
+        assertThat(instant(output)).isNotEqualTo(Instant.EPOCH);
+    }
+
+    @Test
+    void givenCachedOutput_whenConstructToStage_thenOutputIsLinkedToStore(
+        @TempDir Path path,
+        ConveyorModule module,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("cache")
+            )
+            .jar(
+                factory.jarBuilder("cache", path)
+            )
+            .install(path);
+        var conveyorJson = factory.schematicDefinitionBuilder()
+            .repository(path)
+            .plugin("cache")
+            .conveyorJson(path);
+        var output = path.resolve("output").resolve("instant");
+
+        module.construct(conveyorJson, List.of(Stage.COMPILE));
+        new FileTree(path.resolve("output")).delete();
+        module.construct(conveyorJson, List.of(Stage.COMPILE));
+
+        assertThat(Files.getLastModifiedTime(output)).isEqualTo(FileTime.fromMillis(0));
+    }
+
+    @Test
+    void givenLinksDisabled_whenConstructToStage_thenCachedOutputIsRestoredWithCurrentModificationTime(
+        @TempDir Path path,
+        ConveyorModule module,
+        BuilderFactory factory
+    ) throws Exception {
+        factory.repositoryBuilder(path)
+            .schematicDefinition(
+                factory.schematicDefinitionBuilder()
+                    .name("cache")
+            )
+            .jar(
+                factory.jarBuilder("cache", path)
+            )
+            .install(path);
+        var conveyorJson = factory.schematicDefinitionBuilder()
+            .repository(path)
+            .property("conveyor.tasks.cache.links", "false")
+            .plugin("cache")
+            .conveyorJson(path);
+        var output = path.resolve("output").resolve("instant");
+
+        module.construct(conveyorJson, List.of(Stage.COMPILE));
+        var instant = instant(output);
+        new FileTree(path.resolve("output")).delete();
+        module.construct(conveyorJson, List.of(Stage.COMPILE));
+        var lastModifiedTime = Files.getLastModifiedTime(output);
+        Files.writeString(output, Instant.EPOCH.toString());
+        new FileTree(path.resolve("output")).delete();
+        module.construct(conveyorJson, List.of(Stage.COMPILE));
+
+        assertThat(lastModifiedTime).isNotEqualTo(FileTime.fromMillis(0));
+        assertThat(instant(output)).isEqualTo(instant);
+    }
+
     @Test
     void givenCacheableTaskInputDirectoryWithDifferentlyNamedFiles_whenConstructToStage_thenTaskIsExecuted(
         @TempDir Path path,
@@ -2,5 +2,5 @@ package com.github.maximtereshchenko.conveyor.plugin.api;
 
 public enum Cache {
 
-    ENABLED, DISABLED
+    ENABLED, INCREMENTAL, DISABLED
 }
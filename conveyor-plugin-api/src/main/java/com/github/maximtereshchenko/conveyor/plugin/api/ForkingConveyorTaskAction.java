@@ -0,0 +1,3 @@
+package com.github.maximtereshchenko.conveyor.plugin.api;
+
+public interface ForkingConveyorTaskAction extends ConveyorTaskAction {}
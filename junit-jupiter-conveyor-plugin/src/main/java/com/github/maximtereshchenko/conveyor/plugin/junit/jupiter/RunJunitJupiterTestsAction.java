@@ -1,8 +1,8 @@
 package com.github.maximtereshchenko.conveyor.plugin.junit.jupiter;
 
 import com.github.maximtereshchenko.conveyor.junit.jupiter.Launcher;
-import com.github.maximtereshchenko.conveyor.plugin.api.ConveyorTaskAction;
 import com.github.maximtereshchenko.conveyor.plugin.api.ConveyorTaskTracer;
+import com.github.maximtereshchenko.conveyor.plugin.api.ForkingConveyorTaskAction;
 import com.github.maximtereshchenko.conveyor.plugin.api.TracingImportance;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.engine.JupiterTestEngine;
@@ -23,7 +23,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-final class RunJunitJupiterTestsAction implements ConveyorTaskAction {
+final class RunJunitJupiterTestsAction implements ForkingConveyorTaskAction {
 
     private final Path classesDirectory;
     private final Path testClassesDirectory;
@@ -22,37 +22,45 @@ public final class ResourcesPlugin implements ConveyorPlugin {
         Map<String, String> configuration
     ) {
         return List.of(
-            new ConveyorTask(
+            copyResourcesTask(
                 "copy-resources",
                 BindingStage.COMPILE,
                 BindingStep.FINALIZE,
-                new CopyResourcesAction(
-                    configuredPath(configuration, "resources.directory")
-                        .orElseGet(() -> resources(schematic, "main")),
-                    configuredPath(configuration, "resources.destination.directory")
-                        .orElseGet(() -> classes(schematic, "classes"))
-                ),
-                Set.of(),
-                Set.of(),
-                Cache.DISABLED
+                configuredPath(configuration, "resources.directory")
+                    .orElseGet(() -> resources(schematic, "main")),
+                configuredPath(configuration, "resources.destination.directory")
+                    .orElseGet(() -> classes(schematic, "classes"))
             ),
-            new ConveyorTask(
+            copyResourcesTask(
                 "copy-test-resources",
                 BindingStage.TEST,
                 BindingStep.PREPARE,
-                new CopyResourcesAction(
-                    configuredPath(configuration, "test.resources.directory")
-                        .orElseGet(() -> resources(schematic, "test")),
-                    configuredPath(configuration, "test.resources.destination.directory")
-                        .orElseGet(() -> classes(schematic, "test-classes"))
-                ),
-                Set.of(),
-                Set.of(),
-                Cache.DISABLED
+                configuredPath(configuration, "test.resources.directory")
+                    .orElseGet(() -> resources(schematic, "test")),
+                configuredPath(configuration, "test.resources.destination.directory")
+                    .orElseGet(() -> classes(schematic, "test-classes"))
             )
         );
     }
 
+    private ConveyorTask copyResourcesTask(
+        String name,
+        BindingStage stage,
+        BindingStep step,
+        Path resources,
+        Path destination
+    ) {
+        return new ConveyorTask(
+            name,
+            stage,
+            step,
+            new CopyResourcesAction(resources, destination),
+            Set.of(new PathConveyorTaskInput(resources)),
+            Set.of(new PathConveyorTaskOutput(destination)),
+            Cache.DISABLED
+        );
+    }
+
     private Path resources(ConveyorSchematic schematic, String sources) {
         return schematic.path().getParent().resolve("src").resolve(sources).resolve("resources");
     }
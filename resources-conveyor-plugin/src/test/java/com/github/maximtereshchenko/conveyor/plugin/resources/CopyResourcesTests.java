@@ -5,6 +5,8 @@ import com.github.maximtereshchenko.conveyor.plugin.api.BindingStage;
 import com.github.maximtereshchenko.conveyor.plugin.api.BindingStep;
 import com.github.maximtereshchenko.conveyor.plugin.api.Cache;
 import com.github.maximtereshchenko.conveyor.plugin.api.ConveyorTask;
+import com.github.maximtereshchenko.conveyor.plugin.api.PathConveyorTaskInput;
+import com.github.maximtereshchenko.conveyor.plugin.api.PathConveyorTaskOutput;
 import com.github.maximtereshchenko.conveyor.plugin.test.Dsl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -22,11 +24,16 @@ final class CopyResourcesTests {
     @Test
     void givenPlugin_whenBindings_thenCopyResourcesBindingReturned(@TempDir Path path)
         throws IOException {
+        var resources = path.resolve("resources");
+        var classes = path.resolve("classes");
+        var testResources = path.resolve("test-resources");
+        var testClasses = path.resolve("test-classes");
+
         new Dsl(new ResourcesPlugin(), path)
-            .givenConfiguration("resources.directory")
-            .givenConfiguration("resources.destination.directory")
-            .givenConfiguration("test.resources.directory")
-            .givenConfiguration("test.resources.destination.directory")
+            .givenConfiguration("resources.directory", resources)
+            .givenConfiguration("resources.destination.directory", classes)
+            .givenConfiguration("test.resources.directory", testResources)
+            .givenConfiguration("test.resources.destination.directory", testClasses)
             .tasks()
             .contain(
                 new ConveyorTask(
@@ -34,8 +41,8 @@ final class CopyResourcesTests {
                     BindingStage.COMPILE,
                     BindingStep.FINALIZE,
                     null,
-                    Set.of(),
-                    Set.of(),
+                    Set.of(new PathConveyorTaskInput(resources)),
+                    Set.of(new PathConveyorTaskOutput(classes)),
                     Cache.DISABLED
                 ),
                 new ConveyorTask(
@@ -43,8 +50,8 @@ final class CopyResourcesTests {
                     BindingStage.TEST,
                     BindingStep.PREPARE,
                     null,
-                    Set.of(),
-                    Set.of(),
+                    Set.of(new PathConveyorTaskInput(testResources)),
+                    Set.of(new PathConveyorTaskOutput(testClasses)),
                     Cache.DISABLED
                 )
             );